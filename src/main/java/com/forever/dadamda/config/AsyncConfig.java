@@ -0,0 +1,68 @@
+package com.forever.dadamda.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${crawling.executor.core-pool-size}")
+    private int corePoolSize;
+
+    @Value("${crawling.executor.max-pool-size}")
+    private int maxPoolSize;
+
+    @Value("${crawling.executor.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${scrap.import.executor.pool-size}")
+    private int importPoolSize;
+
+    @Value("${scrap.import.executor.queue-capacity}")
+    private int importQueueCapacity;
+
+    // 큐가 가득 차면 작업을 거절한다. (TaskRejectedException) 요청 스레드에서 크롤링하지 않도록
+    // 호출한 쪽이 대기 상태로 남겨두거나(ScrapCrawlingService) 자기 스레드에서 처리한다(가져오기).
+    // 거절된 횟수는 crawling.executor.rejected 로 센다.
+    @Bean
+    public Executor crawlingExecutor(MeterRegistry meterRegistry) {
+        Counter rejectedCounter = Counter.builder("crawling.executor.rejected")
+                .description("크롤링 스레드 풀이 가득 차서 거절된 작업 수")
+                .register(meterRegistry);
+        ThreadPoolExecutor.AbortPolicy abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("crawling-");
+        executor.setRejectedExecutionHandler((task, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            abortPolicy.rejectedExecution(task, threadPoolExecutor);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 스크랩 일괄 가져오기 작업용 (가득 차면 TaskRejectedException으로 새 작업을 거절한다)
+    @Bean
+    public Executor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importPoolSize);
+        executor.setMaxPoolSize(importPoolSize);
+        executor.setQueueCapacity(importQueueCapacity);
+        executor.setThreadNamePrefix("scrap-import-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.forever.dadamda.config;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CrawlingCacheConfig {
+
+    @Value("${crawling.cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${crawling.cache.expire-after-write-minutes}")
+    private long expireAfterWriteMinutes;
+
+    // 정규화된 pageUrl -> 크롤링 결과 (hit/miss/eviction 지표는 cache.* 메트릭으로 노출된다)
+    @Bean
+    public Cache<String, WebClientBodyResponse> crawlingCache(MeterRegistry meterRegistry) {
+        Cache<String, WebClientBodyResponse> crawlingCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, crawlingCache, "crawling");
+    }
+}
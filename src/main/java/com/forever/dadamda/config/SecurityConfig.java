@@ -73,10 +73,12 @@ public class SecurityConfig {
                 .headers().frameOptions().disable()
                 .and()
                 .authorizeRequests()
-                .antMatchers("/h2-console/**", "/actuator/**",
+                .antMatchers("/h2-console/**", "/actuator/health", "/actuator/health/**",
                         "/", "/api-docs/**", "/swagger-ui/**",
                         "/login/**", "/oauth2/**", "/oauth-login",
                         "/ov1/**").permitAll()
+                // 헬스 체크 외의 actuator 엔드포인트(popularusers 등)는 HTTP 로 열지 않는다. (JMX 로만 쓴다)
+                .antMatchers("/actuator/**").denyAll()
                 .antMatchers("/v1/**").hasRole(Role.USER.name())
                 .antMatchers("/v2/**").hasRole(Role.USER.name())
                 .anyRequest().authenticated()
@@ -0,0 +1,62 @@
+package com.forever.dadamda.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    @Value("${crawling.client.max-connections}")
+    private int maxConnections;
+
+    @Value("${crawling.client.pending-acquire-max-count}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${crawling.client.pending-acquire-timeout-millis}")
+    private long pendingAcquireTimeoutMillis;
+
+    @Value("${crawling.client.max-idle-time-millis}")
+    private long maxIdleTimeMillis;
+
+    @Value("${crawling.client.connect-timeout-millis}")
+    private int connectTimeoutMillis;
+
+    @Value("${crawling.client.read-timeout-millis}")
+    private long readTimeoutMillis;
+
+    // 크롤링 서버 호출용 커넥션 풀 (요청마다 새로 만들지 않고 keep-alive 커넥션을 재사용한다)
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider crawlingConnectionProvider() {
+        return ConnectionProvider.builder("crawling")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMillis))
+                .build();
+    }
+
+    @Bean
+    public WebClient crawlingWebClient(ConnectionProvider crawlingConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(crawlingConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(readTimeoutMillis))
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
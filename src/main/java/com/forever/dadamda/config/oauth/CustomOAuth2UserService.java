@@ -1,16 +1,14 @@
 package com.forever.dadamda.config.oauth;
 
-import static com.forever.dadamda.service.RandomService.adjectivesLength;
-import static com.forever.dadamda.service.RandomService.animalsLength;
-import static com.forever.dadamda.service.RandomService.generateRandomNickname;
-import static com.forever.dadamda.service.RandomService.numberLength;
 import static com.forever.dadamda.service.UUIDService.generateUUID;
 
 import com.forever.dadamda.dto.user.OAuthAttributes;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.repository.UserRepository;
-import java.util.HashSet;
-import java.util.Set;
+import com.forever.dadamda.service.TokenService;
+import com.forever.dadamda.service.user.NicknameAllocator;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -31,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
+    private final NicknameAllocator nicknameAllocator;
 
     @Override
     @Transactional
@@ -47,9 +46,14 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
         User user = saveOrUpdate(attributes);
 
+        // 토큰에 사용자 id, uuid 를 담을 수 있도록 속성에 추가한다.
+        Map<String, Object> userAttributes = new HashMap<>(attributes.getAttributes());
+        userAttributes.put(TokenService.USER_ID_CLAIM, user.getId());
+        userAttributes.put(TokenService.USER_UUID_CLAIM, user.getUuid());
+
         return new DefaultOAuth2User(
                 Collections.singleton(new SimpleGrantedAuthority(user.getRoleKey())),
-                attributes.getAttributes(), attributes.getNameAttributeKey());
+                userAttributes, attributes.getNameAttributeKey());
     }
 
     @Transactional
@@ -62,19 +66,15 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         return userRepository.save(user);
     }
 
+    // 비트맵에서 빈 슬롯을 받아오고, 다른 서버가 먼저 쓴 닉네임이면 점유한 채로 다시 받는다.
     @Transactional(readOnly = true)
     public String getNewNickname() {
-        int limit = adjectivesLength * animalsLength * numberLength;
-        Set<String> usedNicknames = new HashSet<>();
-
-        while (usedNicknames.size() < limit) {
-            String nickname = generateRandomNickname();
+        while (true) {
+            String nickname = nicknameAllocator.allocate();
 
-            if (!usedNicknames.contains(nickname) && !userRepository.existsByNickname(nickname)) {
+            if (!userRepository.existsByNickname(nickname)) {
                 return nickname;
             }
-            usedNicknames.add(nickname);
         }
-        throw new RuntimeException("닉네임 생성 실패");
     }
 }
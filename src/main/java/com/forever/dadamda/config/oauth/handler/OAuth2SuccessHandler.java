@@ -9,6 +9,7 @@ import java.io.IOException;
 import java.util.Map;
 
 import java.util.Optional;
+import java.util.UUID;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -47,7 +48,10 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             email = (String) kakaoAccount.get("email");
         }
 
-        String token = tokenService.generateToken(email, "USER");
+        Long userId = oAuth2User.getAttribute(TokenService.USER_ID_CLAIM);
+        UUID userUuid = oAuth2User.getAttribute(TokenService.USER_UUID_CLAIM);
+
+        String token = tokenService.generateToken(email, userId, userUuid, "USER");
 
         String targetUrl = LOGIN_REDIRECT_URL + token;
 
@@ -7,6 +7,7 @@ import com.forever.dadamda.dto.board.GetBoardCountResponse;
 import com.forever.dadamda.dto.board.GetBoardIsPublicResponse;
 import com.forever.dadamda.dto.board.GetBoardIsSharedResponse;
 import com.forever.dadamda.dto.board.GetBoardResponse;
+import com.forever.dadamda.dto.board.GetBoardSuggestionResponse;
 import com.forever.dadamda.dto.board.GetSharedBoardContentsResponse;
 import com.forever.dadamda.dto.board.GetSharedBoardTitleResponse;
 import com.forever.dadamda.dto.board.PostCopyBoardsResponse;
@@ -14,13 +15,17 @@ import com.forever.dadamda.dto.board.UpdateBoardContentsRequest;
 import com.forever.dadamda.dto.board.UpdateBoardRequest;
 import com.forever.dadamda.dto.board.GetBoardDetailResponse;
 import com.forever.dadamda.service.BoardService;
+import com.forever.dadamda.service.BoardTitleSuggester;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import java.util.List;
 import java.util.UUID;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -138,6 +143,20 @@ public class BoardController {
         return ApiResponse.success(boardService.searchBoards(email, keyword, pageable));
     }
 
+    @Operation(summary = "보드 제목 자동완성", description = "입력한 글자로 시작하는 내 보드 제목을 "
+            + "최근 수정한 순으로 size개까지 조회합니다.")
+    @GetMapping("/v1/boards/suggest")
+    public ApiResponse<List<GetBoardSuggestionResponse>> suggestBoards(
+            @RequestParam("keyword") @NotBlank String keyword,
+            @RequestParam(value = "size", defaultValue = "10") @Positive
+            @Max(BoardTitleSuggester.MAX_SIZE) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(boardService.suggestBoards(email, keyword, size));
+    }
+
     @Operation(summary = "보드 컨텐츠 수정", description = "보드의 컨텐츠를 수정합니다.")
     @PatchMapping("/v1/boards/{boardUUID}/contents")
     public ApiResponse<String> updateBoardContents(
@@ -0,0 +1,50 @@
+package com.forever.dadamda.controller;
+
+import com.forever.dadamda.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class ExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String GZIP = "application/gzip";
+
+    private final ExportService exportService;
+
+    // 비동기(StreamingResponseBody)로 보내면 요청 타임아웃에 걸리므로, 요청 스레드에서 응답에 바로 쓴다.
+    @Operation(summary = "내 라이브러리 내보내기", description = "스크랩(메모 포함)과 보드를 한 줄에 하나씩 JSON 으로 "
+            + "내려받을 수 있습니다. (NDJSON) gzip 이 true 이면 gzip 으로 압축해서 내려받습니다.")
+    @GetMapping(value = "/v1/export")
+    public void export(@RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            Authentication authentication, HttpServletResponse response) throws IOException {
+        String email = authentication.getName();
+        String fileName = gzip ? "dadamda-export.ndjson.gz" : "dadamda-export.ndjson";
+
+        response.setContentType(gzip ? GZIP : NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        ServletOutputStream out = response.getOutputStream();
+        if (!gzip) {
+            exportService.export(email, out);
+            return;
+        }
+
+        GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+        exportService.export(email, gzipOut);
+        gzipOut.finish();
+    }
+}
@@ -1,16 +1,21 @@
 package com.forever.dadamda.controller;
 
 import com.forever.dadamda.dto.ApiResponse;
+import com.forever.dadamda.dto.CursorResponse;
+import com.forever.dadamda.dto.board.GetBoardSuggestionResponse;
 import com.forever.dadamda.dto.trend.GetPopularUsersResponse;
 import com.forever.dadamda.dto.trend.GetTrendBoardResponse;
 import com.forever.dadamda.dto.trend.PostTrendHeartResponse;
+import com.forever.dadamda.service.BoardTitleSuggester;
 import com.forever.dadamda.service.TrendService;
 import io.swagger.v3.oas.annotations.Operation;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -93,4 +98,42 @@ public class TrendController {
 
         return ApiResponse.success(trendService.searchTrendBoards(startDate, endDate, keyword, pageable));
     }
+
+    @Operation(summary = "트렌딩 보드 제목 자동완성", description = "입력한 글자로 시작하는 공개 보드 제목을 "
+            + "하트가 많은 순으로 size개까지 조회합니다.")
+    @GetMapping("/ov1/trends/suggest")
+    public ApiResponse<List<GetBoardSuggestionResponse>> suggestTrendBoards(
+            @RequestParam("keyword") @NotBlank String keyword,
+            @RequestParam(value = "size", defaultValue = "10") @Positive
+            @Max(BoardTitleSuggester.MAX_SIZE) int size) {
+
+        return ApiResponse.success(trendService.suggestTrendBoards(keyword, size));
+    }
+
+    @Operation(summary = "트랜드 보드 커서 조회", description = "커서 기반으로 트랜딩 보드를 조회할 수 있습니다. "
+            + "다음 페이지는 응답의 nextCursor를 cursor로 전달해서 조회합니다.")
+    @GetMapping("/ov1/trends/boards/cursor")
+    public ApiResponse<CursorResponse<GetTrendBoardResponse>> getTrendBoardListByCursor(
+            @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime startDate,
+            @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime endDate,
+            String tag,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size) {
+
+        return ApiResponse.success(
+                trendService.getTrendBoardListByCursor(startDate, endDate, tag, cursor, size));
+    }
+
+    @Operation(summary = "트렌딩 보드 커서 검색", description = "커서 기반으로 트렌딩에서 보드명을 검색할 수 있습니다.")
+    @GetMapping("/ov1/trends/search/cursor")
+    public ApiResponse<CursorResponse<GetTrendBoardResponse>> searchTrendBoardsByCursor(
+            @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime startDate,
+            @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime endDate,
+            @RequestParam("keyword") @NotBlank String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size) {
+
+        return ApiResponse.success(trendService.searchTrendBoardsByCursor(startDate, endDate,
+                keyword, cursor, size));
+    }
 }
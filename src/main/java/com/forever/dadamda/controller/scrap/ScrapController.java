@@ -1,24 +1,33 @@
 package com.forever.dadamda.controller.scrap;
 
 import com.forever.dadamda.dto.ApiResponse;
+import com.forever.dadamda.dto.CursorResponse;
+import com.forever.dadamda.dto.scrap.CreateScrapImportRequest;
+import com.forever.dadamda.dto.scrap.CreateScrapImportResponse;
 import com.forever.dadamda.dto.scrap.CreateScrapRequest;
 import com.forever.dadamda.dto.scrap.CreateScrapResponse;
 import com.forever.dadamda.dto.scrap.GetScrapCountResponse;
+import com.forever.dadamda.dto.scrap.GetScrapCountsResponse;
+import com.forever.dadamda.dto.scrap.GetScrapImportResponse;
 import com.forever.dadamda.dto.scrap.GetScrapResponse;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
+import com.forever.dadamda.service.scrap.ScrapImportService;
 import com.forever.dadamda.service.scrap.ScrapService;
 import io.swagger.v3.oas.annotations.Operation;
+import java.util.UUID;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import org.springframework.data.domain.Pageable;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import net.minidev.json.parser.ParseException;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 @Validated
 @RequiredArgsConstructor
@@ -26,12 +35,14 @@ import org.springframework.web.bind.annotation.*;
 public class ScrapController {
 
     private final ScrapService scrapService;
+    private final ScrapImportService scrapImportService;
 
-    @Operation(summary = "스크랩 추가", description = "'크롬 익스텐션'과 '+ 버튼'을 통해서 스크랩을 추가할 수 있습니다.")
+    @Operation(summary = "스크랩 추가", description = "'크롬 익스텐션'과 '+ 버튼'을 통해서 스크랩을 추가할 수 있습니다. "
+            + "스크랩은 대기 상태로 먼저 저장되고, 크롤링 결과는 백그라운드에서 채워집니다.")
     @PostMapping("/v1/scraps")
     public ApiResponse<CreateScrapResponse> addScraps(
             @Valid @RequestBody CreateScrapRequest createScrapRequest,
-            Authentication authentication) throws ParseException {
+            Authentication authentication) {
 
         String email = authentication.getName();
 
@@ -80,6 +91,14 @@ public class ScrapController {
         return ApiResponse.success(GetScrapCountResponse.of(scrapService.getScrapCount(email)));
     }
 
+    @Operation(summary = "타입별 스크랩 개수 조회", description = "전체 스크랩 개수와 비디오, 아티클, 상품, 장소, "
+            + "기타 스크랩 개수를 한 번에 조회할 수 있습니다.")
+    @GetMapping("/v1/scraps/counts")
+    public ApiResponse<GetScrapCountsResponse> getScrapCounts(Authentication authentication) {
+        String email = authentication.getName();
+        return ApiResponse.success(scrapService.getScrapCounts(email));
+    }
+
     @Operation(summary = "스크랩 검색", description = "스크랩을 검색할 수 있습니다.")
     @GetMapping("/v1/scraps/search")
     public ApiResponse<Slice<GetScrapResponse>> searchScraps(
@@ -91,4 +110,69 @@ public class ScrapController {
 
         return ApiResponse.success(scrapService.searchScraps(email, keyword, pageable));
     }
+
+    @Operation(summary = "스크랩 커서 조회", description = "커서 기반으로 여러개의 스크랩을 조회할 수 있습니다. "
+            + "다음 페이지는 응답의 nextCursor를 cursor로 전달해서 조회합니다.")
+    @GetMapping("/v1/scraps/cursor")
+    public ApiResponse<CursorResponse<GetScrapResponse>> getScrapsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(scrapService.getScrapsByCursor(email, cursor, size));
+    }
+
+    @Operation(summary = "스크랩 커서 검색", description = "커서 기반으로 스크랩을 검색할 수 있습니다.")
+    @GetMapping("/v1/scraps/search/cursor")
+    public ApiResponse<CursorResponse<GetScrapResponse>> searchScrapsByCursor(
+            @RequestParam("keyword") @NotBlank String keyword,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Positive @Max(100) int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(
+                scrapService.searchScrapsByCursor(email, keyword, cursor, size));
+    }
+
+    @Operation(summary = "스크랩 일괄 가져오기", description = "URL 목록으로 여러 개의 스크랩을 한 번에 추가할 수 있습니다. "
+            + "가져오기는 백그라운드에서 진행되며, 반환된 jobId로 진행 상황을 조회할 수 있습니다.")
+    @PostMapping(value = "/v1/scraps/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<CreateScrapImportResponse> importScraps(
+            @Valid @RequestBody CreateScrapImportRequest createScrapImportRequest,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        UUID jobId = scrapImportService.startImport(email,
+                createScrapImportRequest.getPageUrls());
+        return ApiResponse.success(CreateScrapImportResponse.of(jobId));
+    }
+
+    @Operation(summary = "북마크 파일로 스크랩 일괄 가져오기", description = "브라우저에서 내보낸 북마크 HTML 파일로 "
+            + "여러 개의 스크랩을 한 번에 추가할 수 있습니다.")
+    @PostMapping(value = "/v1/scraps/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<CreateScrapImportResponse> importBookmarkFile(
+            @RequestPart("file") MultipartFile file,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        UUID jobId = scrapImportService.startImportFromBookmarkFile(email, file);
+        return ApiResponse.success(CreateScrapImportResponse.of(jobId));
+    }
+
+    @Operation(summary = "스크랩 일괄 가져오기 진행 상황 조회", description = "일괄 가져오기 작업의 진행 상황을 조회할 수 있습니다.")
+    @GetMapping("/v1/scraps/bulk/{jobId}")
+    public ApiResponse<GetScrapImportResponse> getImportJob(@PathVariable("jobId") UUID jobId,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+
+        return ApiResponse.success(
+                GetScrapImportResponse.of(scrapImportService.getImportJob(email, jobId)));
+    }
 }
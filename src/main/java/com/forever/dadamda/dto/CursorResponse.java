@@ -0,0 +1,21 @@
+package com.forever.dadamda.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+
+    public static <T> CursorResponse<T> of(Slice<T> slice, String nextCursor) {
+        return new CursorResponse<>(slice.getContent(), slice.hasNext(),
+                slice.hasNext() ? nextCursor : null);
+    }
+}
@@ -14,6 +14,11 @@ public enum ErrorCode {
     INVALID_DUPLICATED_NICKNAME("BR003", "이미 사용중인 닉네임입니다."),
     INVALID_HEART("BR004", "좋아요를 누르지 않은 글입니다."),
     INVALID_AUTHENTICATION_TO_PUBLISH("BR005", "게시 권한이 없습니다."),
+    INVALID_BOOKMARK_FILE("BR006", "북마크 파일을 읽을 수 없습니다."),
+    INVALID_TOO_MANY_IMPORT_JOBS("BR007", "진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_TOO_MANY_IMPORT_URLS("BR008", "한 번에 가져올 수 있는 URL 개수를 초과했습니다."),
+    INVALID_CURSOR("BR009", "잘못된 커서입니다."),
+    INVALID_CONCURRENT_HEART("BR010", "이미 처리 중인 하트 요청입니다."),
 
     /**
      * 404 Not Found (존재하지 않는 리소스)
@@ -24,6 +29,7 @@ public enum ErrorCode {
     NOT_EXISTS_MEMO("NF003", "존재하지 않는 메모입니다."),
     NOT_EXISTS_BOARD_TAG("NF004", "존재하지 않는 보드 태그입니다."),
     NOT_EXISTS_BOARD("NF005", "존재하지 않는 보드입니다."),
+    NOT_EXISTS_IMPORT_JOB("NF006", "존재하지 않는 가져오기 작업입니다."),
 
     /**
      * 500 Internal Server Exception (서버 내부 에러)
@@ -0,0 +1,21 @@
+package com.forever.dadamda.dto.board;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 보드 제목 자동완성 색인용 요약 (QueryDSL Projections.constructor 로 필요한 컬럼만 조회한다)
+@Getter
+@AllArgsConstructor
+public class BoardTitleSummary {
+
+    private Long boardId;
+    private UUID uuid;
+    private Long userId;
+    private String title;
+    private boolean isPublic;
+    private Long heartCnt;
+    private LocalDateTime modifiedDate;
+    private LocalDateTime deletedDate;
+}
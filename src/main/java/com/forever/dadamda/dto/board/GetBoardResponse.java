@@ -5,13 +5,19 @@ import com.forever.dadamda.entity.board.TAG;
 import com.forever.dadamda.service.TimeService;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetBoardResponse {
 
+    // 목록에서는 보드 내용 전체 대신 앞부분만 내려준다. (전체 내용은 /v1/boards/{uuid}/contents)
+    public static final int CONTENTS_PREVIEW_LENGTH = 200;
+
     private Long boardId;
     private String title;
     private LocalDateTime isFixed;
@@ -19,7 +25,20 @@ public class GetBoardResponse {
     private TAG tag;
     private Long modifiedDate;
     private String thumbnailUrl;
-    private String contents;
+    private String contents; // 보드 내용 미리보기
+
+    // QueryDSL Projections.constructor 용 생성자 (목록 조회 시 TEXT 컬럼 전체를 읽지 않는다)
+    public GetBoardResponse(Long boardId, String title, LocalDateTime fixedDate, UUID uuid,
+            TAG tag, LocalDateTime modifiedDate, String thumbnailUrl, String contentsPreview) {
+        this.boardId = boardId;
+        this.title = title;
+        this.isFixed = fixedDate;
+        this.uuid = uuid;
+        this.tag = tag;
+        this.modifiedDate = TimeService.fromLocalDateTime(modifiedDate);
+        this.thumbnailUrl = thumbnailUrl;
+        this.contents = contentsPreview;
+    }
 
     public static GetBoardResponse of(Board board) {
         return GetBoardResponse.builder()
@@ -30,7 +49,14 @@ public class GetBoardResponse {
                 .tag(board.getTag())
                 .modifiedDate(TimeService.fromLocalDateTime(board.getModifiedDate()))
                 .thumbnailUrl(board.getThumbnailUrl())
-                .contents(board.getContents())
+                .contents(toContentsPreview(board.getContents()))
                 .build();
     }
+
+    public static String toContentsPreview(String contents) {
+        if (contents == null || contents.length() <= CONTENTS_PREVIEW_LENGTH) {
+            return contents;
+        }
+        return contents.substring(0, CONTENTS_PREVIEW_LENGTH);
+    }
 }
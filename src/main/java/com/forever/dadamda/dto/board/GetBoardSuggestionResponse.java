@@ -0,0 +1,23 @@
+package com.forever.dadamda.dto.board;
+
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetBoardSuggestionResponse {
+
+    private UUID uuid;
+    private String title;
+
+    public static GetBoardSuggestionResponse of(UUID uuid, String title) {
+        return GetBoardSuggestionResponse.builder()
+                .uuid(uuid)
+                .title(title)
+                .build();
+    }
+}
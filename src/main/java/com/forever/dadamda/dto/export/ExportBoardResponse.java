@@ -0,0 +1,44 @@
+package com.forever.dadamda.dto.export;
+
+import com.forever.dadamda.entity.board.Board;
+import com.forever.dadamda.entity.board.TAG;
+import com.forever.dadamda.service.TimeService;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExportBoardResponse {
+
+    private Long boardId;
+    private UUID boardUUID;
+    private String title;
+    private String description;
+    private TAG tag;
+    private String thumbnailUrl;
+    private boolean isPublic;
+    private boolean isShared;
+    private String contents;
+    private Long createdDate;
+    private Long modifiedDate;
+
+    public static ExportBoardResponse of(Board board) {
+        return ExportBoardResponse.builder()
+                .boardId(board.getId())
+                .boardUUID(board.getUuid())
+                .title(board.getTitle())
+                .description(board.getDescription())
+                .tag(board.getTag())
+                .thumbnailUrl(board.getThumbnailUrl())
+                .isPublic(board.isPublic())
+                .isShared(board.isShared())
+                .contents(board.getContents())
+                .createdDate(TimeService.fromLocalDateTime(board.getCreatedDate()))
+                .modifiedDate(TimeService.fromLocalDateTime(board.getModifiedDate()))
+                .build();
+    }
+}
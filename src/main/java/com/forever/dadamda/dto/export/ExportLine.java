@@ -0,0 +1,13 @@
+package com.forever.dadamda.dto.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 내보내기 파일의 한 줄. type 은 "scrap", "board" 중 하나다.
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ExportLine {
+
+    private String type;
+    private Object data;
+}
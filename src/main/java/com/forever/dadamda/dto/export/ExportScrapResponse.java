@@ -0,0 +1,118 @@
+package com.forever.dadamda.dto.export;
+
+import com.forever.dadamda.dto.memo.GetMemoResponse;
+import com.forever.dadamda.entity.Memo;
+import com.forever.dadamda.entity.scrap.Article;
+import com.forever.dadamda.entity.scrap.Place;
+import com.forever.dadamda.entity.scrap.Product;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.ScrapStatus;
+import com.forever.dadamda.entity.scrap.Video;
+import com.forever.dadamda.service.TimeService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 내보내기용 스크랩. 화면용 GetScrapResponse 와 달리 모든 타입(장소 포함)의 필드를
+// 가공하지 않은 값(조회수, 재생 시간은 숫자 그대로)으로 담아서 다시 가져오거나 옮길 수 있게 한다.
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExportScrapResponse {
+
+    // 공통 부분
+    private Long scrapId;
+    private String dType;
+    private String pageUrl;
+    private String title;
+    private String description;
+    private String siteName;
+    private String thumbnailUrl;
+    private ScrapStatus status;
+    private Long createdDate;
+    private Long modifiedDate;
+    private List<GetMemoResponse> memoList;
+
+    // Article 부분
+    private String author;
+    private String authorImageUrl;
+    private String blogName;
+
+    // Article, Video 부분
+    private Long publishedDate;
+
+    // Product 부분
+    private String price;
+
+    // Video 부분
+    private String embedUrl;
+    private String channelName;
+    private String channelImageUrl;
+    private Long watchedCnt;
+    private Long playTime;
+    private String genre;
+
+    // Place 부분
+    private String address;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private String phoneNumber;
+    private String zipCode;
+    private String homepageUrl;
+    private String category;
+
+    public static ExportScrapResponse of(Scrap scrap, List<Memo> memoList) {
+        ExportScrapResponseBuilder exportScrapResponse = ExportScrapResponse.builder()
+                .scrapId(scrap.getId())
+                .dType("other")
+                .pageUrl(scrap.getPageUrl())
+                .title(scrap.getTitle())
+                .description(scrap.getDescription())
+                .siteName(scrap.getSiteName())
+                .thumbnailUrl(scrap.getThumbnailUrl())
+                .status(scrap.getStatus())
+                .createdDate(TimeService.fromLocalDateTime(scrap.getCreatedDate()))
+                .modifiedDate(TimeService.fromLocalDateTime(scrap.getModifiedDate()))
+                .memoList(memoList.stream().map(GetMemoResponse::of)
+                        .collect(Collectors.toList()));
+
+        if (scrap instanceof Article) {
+            Article article = (Article) scrap;
+            exportScrapResponse.dType("article")
+                    .author(article.getAuthor())
+                    .authorImageUrl(article.getAuthorImageUrl())
+                    .blogName(article.getBlogName())
+                    .publishedDate(TimeService.fromLocalDateTime(article.getPublishedDate()));
+        } else if (scrap instanceof Video) {
+            Video video = (Video) scrap;
+            exportScrapResponse.dType("video")
+                    .embedUrl(video.getEmbedUrl())
+                    .channelName(video.getChannelName())
+                    .channelImageUrl(video.getChannelImageUrl())
+                    .watchedCnt(video.getWatchedCnt())
+                    .playTime(video.getPlayTime())
+                    .genre(video.getGenre())
+                    .publishedDate(TimeService.fromLocalDateTime(video.getPublishedDate()));
+        } else if (scrap instanceof Product) {
+            Product product = (Product) scrap;
+            exportScrapResponse.dType("product")
+                    .price(product.getPrice());
+        } else if (scrap instanceof Place) {
+            Place place = (Place) scrap;
+            exportScrapResponse.dType("place")
+                    .address(place.getAddress())
+                    .latitude(place.getLatitude())
+                    .longitude(place.getLongitude())
+                    .phoneNumber(place.getPhoneNumber())
+                    .zipCode(place.getZipCode())
+                    .homepageUrl(place.getHomepageUrl())
+                    .category(place.getCategory());
+        }
+
+        return exportScrapResponse.build();
+    }
+}
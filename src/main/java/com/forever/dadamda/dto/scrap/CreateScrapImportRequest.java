@@ -0,0 +1,17 @@
+package com.forever.dadamda.dto.scrap;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CreateScrapImportRequest {
+
+    @NotEmpty(message = "url을 입력해주세요.")
+    private List<String> pageUrls;
+}
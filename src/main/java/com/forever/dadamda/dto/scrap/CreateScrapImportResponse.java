@@ -0,0 +1,12 @@
+package com.forever.dadamda.dto.scrap;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CreateScrapImportResponse {
+
+    private UUID jobId;
+}
@@ -10,9 +10,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class CreateScrapResponse {
 
+    private Long scrapId;
     private String pageUrl;
 
-    public static CreateScrapResponse of(String pageUrl) {
-        return new CreateScrapResponse(pageUrl);
+    public static CreateScrapResponse of(Long scrapId, String pageUrl) {
+        return new CreateScrapResponse(scrapId, pageUrl);
     }
 }
\ No newline at end of file
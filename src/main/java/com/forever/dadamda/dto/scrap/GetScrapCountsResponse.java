@@ -0,0 +1,32 @@
+package com.forever.dadamda.dto.scrap;
+
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetScrapCountsResponse {
+
+    private Long total;
+    private Long video;
+    private Long article;
+    private Long product;
+    private Long place;
+    private Long other;
+
+    // d_type(판별 값) -> 개수
+    public static GetScrapCountsResponse of(Map<String, Long> countsByDType) {
+        return GetScrapCountsResponse.builder()
+                .total(countsByDType.values().stream().mapToLong(Long::longValue).sum())
+                .video(countsByDType.getOrDefault("Video", 0L))
+                .article(countsByDType.getOrDefault("Article", 0L))
+                .product(countsByDType.getOrDefault("Product", 0L))
+                .place(countsByDType.getOrDefault("Place", 0L))
+                .other(countsByDType.getOrDefault("Other", 0L))
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.forever.dadamda.dto.scrap;
+
+import com.forever.dadamda.service.scrap.ScrapImportJob;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class GetScrapImportResponse {
+
+    private UUID jobId;
+    private ScrapImportJob.Status status;
+    private int totalCount;         // 요청한 URL 개수
+    private int duplicatedCount;    // 이미 저장되어 있어서 건너뛴 개수
+    private int invalidCount;       // URL 형식이 올바르지 않아서 건너뛴 개수
+    private int importedCount;      // 저장된 개수
+    private int failedCount;        // 저장에 실패한 개수
+
+    public static GetScrapImportResponse of(ScrapImportJob job) {
+        return GetScrapImportResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .totalCount(job.getTotalCount())
+                .duplicatedCount(job.getDuplicatedCount().get())
+                .invalidCount(job.getInvalidCount().get())
+                .importedCount(job.getImportedCount().get())
+                .failedCount(job.getFailedCount().get())
+                .build();
+    }
+}
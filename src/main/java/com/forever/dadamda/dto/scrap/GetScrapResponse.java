@@ -5,6 +5,7 @@ import com.forever.dadamda.entity.Memo;
 import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.entity.scrap.Product;
 import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.ScrapStatus;
 import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.service.TimeService;
 import com.forever.dadamda.service.scrap.VideoService;
@@ -31,6 +32,7 @@ public class GetScrapResponse {
     private String thumbnailUrl;
     private String title;
     private List<GetMemoResponse> memoList;
+    private ScrapStatus status;
 
     // Article 부분
     private String author;
@@ -57,6 +59,7 @@ public class GetScrapResponse {
                 .siteName(scrap.getSiteName())
                 .thumbnailUrl(scrap.getThumbnailUrl())
                 .title(scrap.getTitle())
+                .status(scrap.getStatus())
                 .memoList(memoList.stream().map(GetMemoResponse::of)
                         .collect(Collectors.toList()));
 
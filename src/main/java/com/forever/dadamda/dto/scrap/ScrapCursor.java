@@ -0,0 +1,42 @@
+package com.forever.dadamda.dto.scrap;
+
+import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.exception.InvalidException;
+import com.forever.dadamda.service.CursorService;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 스크랩 목록 커서 (createdDate desc, id desc 순서에서 마지막으로 받은 스크랩의 위치)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScrapCursor {
+
+    private final LocalDateTime createdDate;
+    private final Long scrapId;
+
+    public static ScrapCursor from(Scrap scrap) {
+        return new ScrapCursor(scrap.getCreatedDate(), scrap.getId());
+    }
+
+    // 첫 페이지 요청이면 null 을 반환한다.
+    public static ScrapCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String[] values = CursorService.decode(cursor, 2);
+        try {
+            return new ScrapCursor(LocalDateTime.parse(values[0]), Long.valueOf(values[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorService.encode(createdDate, scrapId);
+    }
+}
@@ -1,14 +1,21 @@
 package com.forever.dadamda.dto.trend;
 
+import static com.forever.dadamda.dto.board.GetBoardResponse.toContentsPreview;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.board.TAG;
 import com.forever.dadamda.service.TimeService;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetTrendBoardResponse {
 
     private String profileUrl; // 보드 작성자 프로필 사진
@@ -22,7 +29,37 @@ public class GetTrendBoardResponse {
     private Long viewCnt;   // 보드 조회수
     private Long createdAt; // 보드 생성일
     private String thumbnailUrl; // 보드 썸네일 사진
-    private String contents; // 보드 내용
+    private String contents; // 보드 내용 미리보기
+
+    @JsonIgnore
+    private Long boardId;   // 커서 생성용 보드 id (응답에는 포함하지 않는다)
+
+    // QueryDSL Projections.constructor 용 생성자 (목록 조회 시 TEXT 컬럼 전체를 읽지 않는다)
+    public GetTrendBoardResponse(String profileUrl, String nickname, String title,
+            String description, TAG tag, UUID uuid, Long heartCnt, Long shareCnt, Long viewCnt,
+            LocalDateTime createdDate, String thumbnailUrl, String contentsPreview) {
+        this(null, profileUrl, nickname, title, description, tag, uuid, heartCnt, shareCnt,
+                viewCnt, createdDate, thumbnailUrl, contentsPreview);
+    }
+
+    // 커서 조회용 생성자 (마지막 보드의 id로 다음 커서를 만든다)
+    public GetTrendBoardResponse(Long boardId, String profileUrl, String nickname, String title,
+            String description, TAG tag, UUID uuid, Long heartCnt, Long shareCnt, Long viewCnt,
+            LocalDateTime createdDate, String thumbnailUrl, String contentsPreview) {
+        this.boardId = boardId;
+        this.profileUrl = profileUrl;
+        this.nickname = nickname;
+        this.title = title;
+        this.description = description;
+        this.tag = tag;
+        this.uuid = uuid;
+        this.heartCnt = heartCnt;
+        this.shareCnt = shareCnt;
+        this.viewCnt = viewCnt;
+        this.createdAt = TimeService.fromLocalDateTime(createdDate);
+        this.thumbnailUrl = thumbnailUrl;
+        this.contents = contentsPreview;
+    }
 
     public static GetTrendBoardResponse of(Board board) {
         return GetTrendBoardResponse.builder()
@@ -37,7 +74,8 @@ public class GetTrendBoardResponse {
                 .viewCnt(board.getViewCnt())
                 .createdAt(TimeService.fromLocalDateTime(board.getCreatedDate()))
                 .thumbnailUrl(board.getThumbnailUrl())
-                .contents(board.getContents())
+                .contents(toContentsPreview(board.getContents()))
+                .boardId(board.getId())
                 .build();
     }
 }
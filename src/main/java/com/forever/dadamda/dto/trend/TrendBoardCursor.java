@@ -0,0 +1,43 @@
+package com.forever.dadamda.dto.trend;
+
+import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.exception.InvalidException;
+import com.forever.dadamda.service.CursorService;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 트렌딩 보드 목록 커서 (heartCnt, shareCnt, viewCnt, id 내림차순에서 마지막으로 받은 보드의 위치)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TrendBoardCursor {
+
+    private final Long heartCnt;
+    private final Long shareCnt;
+    private final Long viewCnt;
+    private final Long boardId;
+
+    public static TrendBoardCursor from(GetTrendBoardResponse board) {
+        return new TrendBoardCursor(board.getHeartCnt(), board.getShareCnt(), board.getViewCnt(),
+                board.getBoardId());
+    }
+
+    // 첫 페이지 요청이면 null 을 반환한다.
+    public static TrendBoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String[] values = CursorService.decode(cursor, 4);
+        try {
+            return new TrendBoardCursor(Long.valueOf(values[0]), Long.valueOf(values[1]),
+                    Long.valueOf(values[2]), Long.valueOf(values[3]));
+        } catch (NumberFormatException e) {
+            throw new InvalidException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorService.encode(heartCnt, shareCnt, viewCnt, boardId);
+    }
+}
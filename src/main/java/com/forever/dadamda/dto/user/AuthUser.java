@@ -0,0 +1,23 @@
+package com.forever.dadamda.dto.user;
+
+import java.io.Serializable;
+import java.security.Principal;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// JWT 로 인증된 사용자. getName() 은 기존처럼 email 을 반환한다.
+// 이전에 발급된 토큰에는 userId, uuid 가 없으므로 null 일 수 있다.
+@Getter
+@AllArgsConstructor
+public class AuthUser implements Principal, Serializable {
+
+    private final Long userId;
+    private final UUID uuid;
+    private final String email;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
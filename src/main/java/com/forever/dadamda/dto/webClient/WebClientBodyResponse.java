@@ -67,8 +67,4 @@ public class WebClientBodyResponse {
         this.publishedDate = publishedDate;
         this.description = description;
     }
-
-    public void setDescription(String description) {
-        this.description = description;
-    }
 }
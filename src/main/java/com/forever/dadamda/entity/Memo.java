@@ -5,9 +5,13 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,10 +19,14 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_memo_scrap_deleted",
+        columnList = "scrap_id, deletedDate, memo_id"))
 public class Memo extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memo_id_generator")
+    @SequenceGenerator(name = "memo_id_generator", sequenceName = "hibernate_sequence",
+            allocationSize = 50)
     @Column(name = "memo_id")
     private Long id;
 
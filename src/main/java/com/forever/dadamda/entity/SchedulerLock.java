@@ -0,0 +1,28 @@
+package com.forever.dadamda.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 스케줄 작업 잠금 (여러 서버 중 잠금을 얻은 한 서버만 작업을 실행한다, SchedulerLockService 가 JDBC 로 다룬다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "scheduler_lock")
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false, length = 64)
+    private String lockedBy;
+}
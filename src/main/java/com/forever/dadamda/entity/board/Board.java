@@ -13,10 +13,14 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -27,10 +31,18 @@ import org.hibernate.annotations.DynamicInsert;
 @Getter
 @NoArgsConstructor
 @DynamicInsert
+// 인덱스는 db/migration 과 같게 유지한다.
+@Table(indexes = {
+        @Index(name = "idx_board_trend_order",
+                columnList = "isPublic, heartCnt, shareCnt, viewCnt, board_id"),
+        @Index(name = "idx_board_user_deleted_fixed_modified",
+                columnList = "user_id, deletedDate, fixedDate, modifiedDate")})
 public class Board extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_id_generator")
+    @SequenceGenerator(name = "board_id_generator", sequenceName = "hibernate_sequence",
+            allocationSize = 50)
     @Column(name = "board_id")
     private Long id;
 
@@ -127,10 +139,6 @@ public class Board extends BaseTimeEntity {
         this.heartCnt = request;
     }
 
-    public void addViewCnt() {
-        this.viewCnt += 1;
-    }
-
     public void addShareCnt() {
         this.shareCnt += 1;
     }
@@ -0,0 +1,46 @@
+package com.forever.dadamda.entity.board;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 트렌딩에 게시된 보드의 정렬 키만 모아둔 테이블 (TrendRankService 가 board 에서 주기적으로 반영한다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "trend_rank", indexes = {
+        @Index(name = "idx_trend_rank_window_order",
+                columnList = "boardCreatedDate, heartCnt, shareCnt, viewCnt, board_id"),
+        @Index(name = "idx_trend_rank_tag_window_order",
+                columnList = "tag, boardCreatedDate, heartCnt, shareCnt, viewCnt, board_id")})
+public class TrendRank {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", insertable = false, updatable = false)
+    private Board board;
+
+    @Column(nullable = false)
+    private TAG tag;
+
+    @Column(nullable = false)
+    private LocalDateTime boardCreatedDate;
+
+    private Long heartCnt;
+
+    private Long shareCnt;
+
+    private Long viewCnt;
+}
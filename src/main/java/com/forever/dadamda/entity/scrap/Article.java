@@ -1,6 +1,8 @@
 package com.forever.dadamda.entity.scrap;
 
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.service.TimeService;
 import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -42,4 +44,13 @@ public class Article extends Scrap {
         this.author = author;
         this.blogName = blogName;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void completeCrawling(WebClientBodyResponse crawlingResponse) {
+        super.completeCrawling(crawlingResponse);
+        this.author = crawlingResponse.getAuthor();
+        this.authorImageUrl = crawlingResponse.getAuthorImageUrl();
+        this.blogName = crawlingResponse.getBlogName();
+        this.publishedDate = TimeService.fromUnixTime(crawlingResponse.getPublishedDate());
+    }
+}
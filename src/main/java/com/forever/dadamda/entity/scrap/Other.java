@@ -17,4 +17,11 @@ public class Other extends Scrap {
             String siteName) {
         super(user, pageUrl, title, thumbnailUrl, description, siteName);
     }
+
+    // 크롤링 전에 먼저 저장해두는 대기 상태의 스크랩
+    public static Other pending(User user, String pageUrl) {
+        Other other = new Other(user, pageUrl, null, null, null, null);
+        other.updateStatus(ScrapStatus.PENDING);
+        return other;
+    }
 }
@@ -1,5 +1,6 @@
 package com.forever.dadamda.entity.scrap;
 
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.user.User;
 import java.math.BigDecimal;
 import javax.persistence.Column;
@@ -48,4 +49,16 @@ public class Place extends Scrap {
         this.homepageUrl = homepageUrl;
         this.category = category;
     }
+
+    @Override
+    public void completeCrawling(WebClientBodyResponse crawlingResponse) {
+        super.completeCrawling(crawlingResponse);
+        this.address = crawlingResponse.getAddress();
+        this.latitude = crawlingResponse.getLatitude();
+        this.longitude = crawlingResponse.getLongitude();
+        this.phoneNumber = crawlingResponse.getPhoneNumber();
+        this.zipCode = crawlingResponse.getZipCode();
+        this.homepageUrl = crawlingResponse.getHomepageUrl();
+        this.category = crawlingResponse.getCategory();
+    }
 }
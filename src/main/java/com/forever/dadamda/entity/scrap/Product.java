@@ -1,5 +1,6 @@
 package com.forever.dadamda.entity.scrap;
 
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.user.User;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -25,4 +26,10 @@ public class Product extends Scrap {
     public void updateProduct(String price) {
         this.price = price;
     }
+
+    @Override
+    public void completeCrawling(WebClientBodyResponse crawlingResponse) {
+        super.completeCrawling(crawlingResponse);
+        this.price = crawlingResponse.getPrice();
+    }
 }
@@ -1,5 +1,6 @@
 package com.forever.dadamda.entity.scrap;
 
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.BaseTimeEntity;
 import com.forever.dadamda.entity.Memo;
 import com.forever.dadamda.entity.user.User;
@@ -8,14 +9,20 @@ import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -27,10 +34,22 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @AllArgsConstructor(access = AccessLevel.PUBLIC)
 @DiscriminatorColumn(name = "d_type")
+// 인덱스는 db/migration 과 같게 유지한다. (page_url 은 MySQL 에서 앞 255자만 인덱싱한다)
+@Table(indexes = {
+        @Index(name = "idx_scrap_user_deleted_created",
+                columnList = "user_id, deletedDate, createdDate, scrap_id"),
+        @Index(name = "idx_scrap_user_type_deleted_created",
+                columnList = "user_id, d_type, deletedDate, createdDate, scrap_id"),
+        @Index(name = "idx_scrap_user_page_url", columnList = "user_id, pageUrl"),
+        @Index(name = "idx_scrap_status_modified", columnList = "status, modifiedDate")})
 public class Scrap extends BaseTimeEntity {
 
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scrap_id_generator")
+    @SequenceGenerator(name = "scrap_id_generator", sequenceName = "hibernate_sequence",
+            allocationSize = 50)
     @Column(name = "scrap_id")
     private Long id;
 
@@ -56,9 +75,14 @@ public class Scrap extends BaseTimeEntity {
     @Column(length = 100)
     private String siteName;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ScrapStatus status;
+
     public Scrap(User user, String pageUrl) {
         this.user = user;
         this.pageUrl = pageUrl;
+        this.status = ScrapStatus.COMPLETED;
     }
 
     public Scrap(User user, String pageUrl, String title, String thumbnailUrl, String description,
@@ -67,8 +91,9 @@ public class Scrap extends BaseTimeEntity {
         this.pageUrl = pageUrl;
         this.title = title;
         this.thumbnailUrl = thumbnailUrl;
-        this.description = description;
+        this.description = truncateDescription(description);
         this.siteName = siteName;
+        this.status = ScrapStatus.COMPLETED;
     }
 
     public void update(String title, String description, String siteName) {
@@ -76,4 +101,25 @@ public class Scrap extends BaseTimeEntity {
         this.description = description;
         this.siteName = siteName;
     }
+
+    public void updateStatus(ScrapStatus status) {
+        this.status = status;
+    }
+
+    // 비동기 크롤링이 끝난 뒤, 대기 중인 스크랩에 크롤링 결과를 채운다.
+    public void completeCrawling(WebClientBodyResponse crawlingResponse) {
+        this.title = crawlingResponse.getTitle();
+        this.thumbnailUrl = crawlingResponse.getThumbnailUrl();
+        this.description = truncateDescription(crawlingResponse.getDescription());
+        this.siteName = crawlingResponse.getSiteName();
+        this.status = ScrapStatus.COMPLETED;
+    }
+
+    // 크롤링 결과는 캐시에서 여러 요청이 함께 쓰므로, 결과를 고치지 않고 저장할 값만 자른다.
+    private static String truncateDescription(String description) {
+        if (description == null || description.length() <= MAX_DESCRIPTION_LENGTH) {
+            return description;
+        }
+        return description.substring(0, MAX_DESCRIPTION_LENGTH);
+    }
 }
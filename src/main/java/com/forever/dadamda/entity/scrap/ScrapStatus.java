@@ -0,0 +1,15 @@
+package com.forever.dadamda.entity.scrap;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ScrapStatus {
+
+    PENDING("크롤링 대기 중"),
+    COMPLETED("크롤링 완료"),
+    FAILED("크롤링 실패");
+
+    private final String description;
+}
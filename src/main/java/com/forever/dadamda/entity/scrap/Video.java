@@ -1,6 +1,8 @@
 package com.forever.dadamda.entity.scrap;
 
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.service.TimeService;
 import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -49,4 +51,15 @@ public class Video extends Scrap {
     public void updateVideo(String channelName) {
         this.channelName = channelName;
     }
+
+    @Override
+    public void completeCrawling(WebClientBodyResponse crawlingResponse) {
+        super.completeCrawling(crawlingResponse);
+        this.embedUrl = crawlingResponse.getEmbedUrl();
+        this.channelName = crawlingResponse.getChannelName();
+        this.channelImageUrl = crawlingResponse.getChannelImageUrl();
+        this.watchedCnt = crawlingResponse.getWatchedCnt();
+        this.playTime = crawlingResponse.getPlayTime();
+        this.publishedDate = TimeService.fromUnixTime(crawlingResponse.getPublishedDate());
+    }
 }
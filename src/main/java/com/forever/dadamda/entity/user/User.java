@@ -17,7 +17,8 @@ import lombok.ToString;
 @NoArgsConstructor
 @Entity
 @ToString(exclude = "scrapList")
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_email_deleted",
+        columnList = "email, deletedDate"))
 public class User extends BaseTimeEntity implements Serializable {
 
     @Id
@@ -1,5 +1,6 @@
 package com.forever.dadamda.filter;
 
+import com.forever.dadamda.dto.user.AuthUser;
 import com.forever.dadamda.service.TokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,10 +29,10 @@ public class JwtAuthFilter extends GenericFilterBean {
         try {
             String token = tokenService.resolveToken((HttpServletRequest) request);
 
-            if (token != null && tokenService.validateToken(token)) {
-                String email = tokenService.getEmail(token);
+            if (token != null) {
+                AuthUser authUser = tokenService.getAuthUser(tokenService.parseClaims(token));
 
-                Authentication auth = new UsernamePasswordAuthenticationToken(email, "",
+                Authentication auth = new UsernamePasswordAuthenticationToken(authUser, "",
                         Arrays.asList(new SimpleGrantedAuthority("ROLE_USER")));
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
@@ -3,10 +3,26 @@ package com.forever.dadamda.repository;
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.heart.Heart;
 import com.forever.dadamda.entity.user.User;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface HeartRepository extends JpaRepository<Heart, Long> {
 
     Optional<Heart> findByUserAndBoardAndDeletedDateIsNull(User user, Board board);
+
+    // (user, board) 당 하트는 한 행만 두고, 취소/재추가는 deletedDate 만 바꾼다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Heart h set h.deletedDate = :now "
+            + "where h.user = :user and h.board.id = :boardId and h.deletedDate is null")
+    int cancelHeart(@Param("user") User user, @Param("boardId") Long boardId,
+            @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Heart h set h.deletedDate = null "
+            + "where h.user = :user and h.board.id = :boardId and h.deletedDate is not null")
+    int reviveHeart(@Param("user") User user, @Param("boardId") Long boardId);
 }
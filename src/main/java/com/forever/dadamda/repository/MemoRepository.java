@@ -2,13 +2,20 @@ package com.forever.dadamda.repository;
 
 import com.forever.dadamda.entity.Memo;
 import com.forever.dadamda.entity.scrap.Scrap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemoRepository extends JpaRepository<Memo, Long> {
 
     List<Memo> findMemosByScrapAndDeletedDateIsNull(Scrap scrap);
 
+    @Query("select m from Memo m where m.scrap in :scraps and m.deletedDate is null order by m.id")
+    List<Memo> findMemosByScrapInAndDeletedDateIsNull(
+            @Param("scraps") Collection<? extends Scrap> scraps);
+
     Optional<Memo> findMemoByIdAndScrapAndDeletedDateIsNull(Long memoId, Scrap scrap);
 }
\ No newline at end of file
@@ -1,13 +1,27 @@
 package com.forever.dadamda.repository;
 
 import com.forever.dadamda.entity.user.User;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmailAndDeletedDateIsNull(String email);
 
     Boolean existsByNickname(String nickname);
+
+    boolean existsByIdAndDeletedDateIsNull(Long id);
+
+    @Query("select u.nickname from User u")
+    List<String> findAllNicknames();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
 }
@@ -2,9 +2,14 @@ package com.forever.dadamda.repository.board;
 
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.user.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
     Optional<Board> findByUserAndTitle(User user, String title);
@@ -20,4 +25,22 @@ public interface BoardRepository extends JpaRepository<Board, Long>, BoardReposi
     Optional<Board> findByUuidAndDeletedDateIsNullAndIsPublicIsTrue(UUID uuid);
 
     Optional<Board> findByUuidAndDeletedDateIsNull(UUID uuid);
+
+    boolean existsByUuidAndDeletedDateIsNull(UUID uuid);
+
+    @Query("select b.id from Board b "
+            + "where b.uuid = :uuid and b.deletedDate is null and b.isPublic = true")
+    Optional<Long> findPublicBoardIdByUuid(@Param("uuid") UUID uuid);
+
+    @Query("select b.id from Board b where b.uuid in :uuids")
+    List<Long> findIdsByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Board b set b.heartCnt = b.heartCnt + 1 where b.id = :boardId")
+    int increaseHeartCnt(@Param("boardId") Long boardId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Board b set b.heartCnt = b.heartCnt - 1 "
+            + "where b.id = :boardId and b.heartCnt > 0")
+    int decreaseHeartCnt(@Param("boardId") Long boardId);
 }
@@ -1,6 +1,9 @@
 package com.forever.dadamda.repository.board;
 
-import com.forever.dadamda.entity.board.Board;
+import com.forever.dadamda.dto.board.BoardTitleSummary;
+import com.forever.dadamda.dto.board.GetBoardResponse;
+import com.forever.dadamda.dto.trend.GetTrendBoardResponse;
+import com.forever.dadamda.dto.trend.TrendBoardCursor;
 import com.forever.dadamda.entity.user.User;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,21 +14,31 @@ import org.springframework.data.domain.Slice;
 
 public interface BoardRepositoryCustom {
 
-    Slice<Board> getBoardsList(User user, Pageable pageable);
+    Slice<GetBoardResponse> getBoardsList(User user, Pageable pageable);
 
-    Slice<Board> searchKeywordInBoardList(User user, String keyword, Pageable pageable);
+    Slice<GetBoardResponse> searchKeywordInBoardList(User user, String keyword, Pageable pageable);
 
     Optional<Boolean> findIsSharedByBoardUUID(User user, UUID boardUUID);
 
     Optional<Boolean> findIsPublicByBoardUUID(User user, UUID boardUUID);
 
-    Slice<Board> getTrendBoardListOrderByHeartCnt(LocalDateTime trendStartDateTime,
-            LocalDateTime trendEndDateTime, Pageable pageable, String tag);
-
     List<User> getPopularUsersByHeartTotalCnt(LocalDateTime startDate, LocalDateTime endDate, Long limit);
 
-    Slice<Board> getMyTrendBoardsListOrderByHeartCnt(User user, String tag, Pageable pageable);
+    Slice<GetTrendBoardResponse> getMyTrendBoardsListOrderByHeartCnt(User user, String tag, Pageable pageable);
 
-    Slice<Board> searchKeywordInTrendBoardList(LocalDateTime startDate, LocalDateTime endDate,
+    Slice<GetTrendBoardResponse> searchKeywordInTrendBoardList(LocalDateTime startDate, LocalDateTime endDate,
             String keyword, Pageable pageable);
+
+    Slice<GetTrendBoardResponse> getTrendBoardListByCursor(LocalDateTime trendStartDateTime,
+            LocalDateTime trendEndDateTime, String tag, TrendBoardCursor cursor, int size);
+
+    Slice<GetTrendBoardResponse> searchKeywordInTrendBoardListByCursor(LocalDateTime startDate,
+            LocalDateTime endDate, String keyword, TrendBoardCursor cursor, int size);
+
+    List<BoardTitleSummary> findBoardTitlesByUserId(Long userId);
+
+    List<BoardTitleSummary> findPublicBoardTitles();
+
+    // 삭제된 보드도 조회한다. (자동완성 색인에서 지우기 위해)
+    Optional<BoardTitleSummary> findBoardTitleById(Long boardId);
 }
@@ -2,15 +2,23 @@ package com.forever.dadamda.repository.board;
 
 import static com.forever.dadamda.entity.board.QBoard.board;
 
-import com.forever.dadamda.entity.board.Board;
+import com.forever.dadamda.dto.board.BoardTitleSummary;
+import com.forever.dadamda.dto.board.GetBoardResponse;
+import com.forever.dadamda.dto.trend.GetTrendBoardResponse;
+import com.forever.dadamda.dto.trend.TrendBoardCursor;
 import com.forever.dadamda.entity.board.TAG;
+import com.forever.dadamda.entity.user.QUser;
 import com.forever.dadamda.entity.user.User;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -18,11 +26,41 @@ import org.springframework.data.domain.SliceImpl;
 @RequiredArgsConstructor
 public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
 
+    private static final QUser author = new QUser("author");
+
+    // 보드 목록은 TEXT 컬럼(contents) 전체 대신 요약 컬럼과 내용 앞부분만 조회한다.
+    private static final ConstructorExpression<GetBoardResponse> BOARD_SUMMARY =
+            Projections.constructor(GetBoardResponse.class,
+                    board.id, board.title, board.fixedDate, board.uuid, board.tag,
+                    board.modifiedDate, board.thumbnailUrl,
+                    board.contents.substring(0, GetBoardResponse.CONTENTS_PREVIEW_LENGTH));
+
+    private static final ConstructorExpression<GetTrendBoardResponse> TREND_BOARD_SUMMARY =
+            Projections.constructor(GetTrendBoardResponse.class,
+                    author.profileUrl, author.nickname, board.title, board.description,
+                    board.tag, board.uuid, board.heartCnt, board.shareCnt, board.viewCnt,
+                    board.createdDate, board.thumbnailUrl,
+                    board.contents.substring(0, GetBoardResponse.CONTENTS_PREVIEW_LENGTH));
+
+    // 커서 조회는 다음 커서를 만들 수 있도록 보드 id 도 함께 조회한다.
+    private static final ConstructorExpression<GetTrendBoardResponse> TREND_BOARD_CURSOR_SUMMARY =
+            Projections.constructor(GetTrendBoardResponse.class,
+                    board.id, author.profileUrl, author.nickname, board.title, board.description,
+                    board.tag, board.uuid, board.heartCnt, board.shareCnt, board.viewCnt,
+                    board.createdDate, board.thumbnailUrl,
+                    board.contents.substring(0, GetBoardResponse.CONTENTS_PREVIEW_LENGTH));
+
+    private static final ConstructorExpression<BoardTitleSummary> BOARD_TITLE_SUMMARY =
+            Projections.constructor(BoardTitleSummary.class,
+                    board.id, board.uuid, board.user.id, board.title, board.isPublic,
+                    board.heartCnt, board.modifiedDate, board.deletedDate);
+
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Slice<Board> getBoardsList(User user, Pageable pageable) {
-        List<Board> contents = queryFactory.selectFrom(board)
+    public Slice<GetBoardResponse> getBoardsList(User user, Pageable pageable) {
+        List<GetBoardResponse> contents = queryFactory.select(BOARD_SUMMARY)
+                .from(board)
                 .where(
                         board.user.eq(user)
                                 .and(board.deletedDate.isNull())
@@ -36,8 +74,10 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
     }
 
     @Override
-    public Slice<Board> searchKeywordInBoardList(User user, String keyword, Pageable pageable) {
-        List<Board> contents = queryFactory.selectFrom(board)
+    public Slice<GetBoardResponse> searchKeywordInBoardList(User user, String keyword,
+            Pageable pageable) {
+        List<GetBoardResponse> contents = queryFactory.select(BOARD_SUMMARY)
+                .from(board)
                 .where(
                         board.user.eq(user)
                                 .and(board.deletedDate.isNull())
@@ -79,25 +119,6 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
         return Optional.ofNullable(isPublic);
     }
 
-    @Override
-    public Slice<Board> getTrendBoardListOrderByHeartCnt(LocalDateTime trendStartDateTime,
-            LocalDateTime trendEndDateTime, Pageable pageable, String tag) {
-        List<Board> contents = queryFactory.selectFrom(board)
-                .where(
-                        board.deletedDate.isNull()
-                                .and(board.isPublic.isTrue())
-                                .and(board.createdDate.between(trendStartDateTime,
-                                        trendEndDateTime))
-                                .and(tag == null ? null : board.tag.eq(TAG.from(tag)))
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1)
-                .orderBy(board.heartCnt.desc(), board.shareCnt.desc(), board.viewCnt.desc())
-                .fetch();
-
-        return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
-    }
-
     @Override
     public List<User> getPopularUsersByHeartTotalCnt(LocalDateTime startDate, LocalDateTime endDate,
             Long limit) {
@@ -118,10 +139,12 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
     }
 
     @Override
-    public Slice<Board> getMyTrendBoardsListOrderByHeartCnt(User user, String tag,
-            Pageable pageable) {
+    public Slice<GetTrendBoardResponse> getMyTrendBoardsListOrderByHeartCnt(User user,
+            String tag, Pageable pageable) {
 
-        List<Board> contents = queryFactory.selectFrom(board)
+        List<GetTrendBoardResponse> contents = queryFactory.select(TREND_BOARD_SUMMARY)
+                .from(board)
+                .join(board.user, author)
                 .where(
                         board.deletedDate.isNull()
                                 .and(board.isPublic.isTrue())
@@ -137,9 +160,11 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
     }
     
     @Override
-    public Slice<Board> searchKeywordInTrendBoardList(LocalDateTime startDate,
+    public Slice<GetTrendBoardResponse> searchKeywordInTrendBoardList(LocalDateTime startDate,
             LocalDateTime endDate, String keyword, Pageable pageable) {
-        List<Board> contents = queryFactory.selectFrom(board)
+        List<GetTrendBoardResponse> contents = queryFactory.select(TREND_BOARD_SUMMARY)
+                .from(board)
+                .join(board.user, author)
                 .where(
                         board.isPublic.isTrue()
                                 .and(board.deletedDate.isNull())
@@ -154,7 +179,89 @@ public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
         return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
     }
 
-    private boolean hasNextPage(List<Board> contents, int pageSize) {
+    @Override
+    public Slice<GetTrendBoardResponse> getTrendBoardListByCursor(LocalDateTime trendStartDateTime,
+            LocalDateTime trendEndDateTime, String tag, TrendBoardCursor cursor, int size) {
+        List<GetTrendBoardResponse> contents = queryFactory.select(TREND_BOARD_CURSOR_SUMMARY)
+                .from(board)
+                .join(board.user, author)
+                .where(
+                        board.deletedDate.isNull()
+                                .and(board.isPublic.isTrue())
+                                .and(board.createdDate.between(trendStartDateTime,
+                                        trendEndDateTime))
+                                .and(tag == null ? null : board.tag.eq(TAG.from(tag)))
+                                .and(afterTrendCursor(cursor))
+                )
+                .limit(size + 1)
+                .orderBy(board.heartCnt.desc(), board.shareCnt.desc(), board.viewCnt.desc(),
+                        board.id.desc())
+                .fetch();
+
+        return new SliceImpl<>(contents, PageRequest.of(0, size), hasNextPage(contents, size));
+    }
+
+    @Override
+    public Slice<GetTrendBoardResponse> searchKeywordInTrendBoardListByCursor(LocalDateTime startDate,
+            LocalDateTime endDate, String keyword, TrendBoardCursor cursor, int size) {
+        List<GetTrendBoardResponse> contents = queryFactory.select(TREND_BOARD_CURSOR_SUMMARY)
+                .from(board)
+                .join(board.user, author)
+                .where(
+                        board.isPublic.isTrue()
+                                .and(board.deletedDate.isNull())
+                                .and(board.title.containsIgnoreCase(keyword))
+                                .and(board.createdDate.between(startDate, endDate))
+                                .and(afterTrendCursor(cursor))
+                )
+                .limit(size + 1)
+                .orderBy(board.heartCnt.desc(), board.shareCnt.desc(), board.viewCnt.desc(),
+                        board.id.desc())
+                .fetch();
+
+        return new SliceImpl<>(contents, PageRequest.of(0, size), hasNextPage(contents, size));
+    }
+
+    @Override
+    public List<BoardTitleSummary> findBoardTitlesByUserId(Long userId) {
+        return queryFactory.select(BOARD_TITLE_SUMMARY)
+                .from(board)
+                .where(board.user.id.eq(userId).and(board.deletedDate.isNull()))
+                .fetch();
+    }
+
+    @Override
+    public List<BoardTitleSummary> findPublicBoardTitles() {
+        return queryFactory.select(BOARD_TITLE_SUMMARY)
+                .from(board)
+                .where(board.isPublic.isTrue().and(board.deletedDate.isNull()))
+                .fetch();
+    }
+
+    @Override
+    public Optional<BoardTitleSummary> findBoardTitleById(Long boardId) {
+        return Optional.ofNullable(queryFactory.select(BOARD_TITLE_SUMMARY)
+                .from(board)
+                .where(board.id.eq(boardId))
+                .fetchOne());
+    }
+
+    // offset 대신 마지막으로 받은 (heartCnt, shareCnt, viewCnt, id) 다음부터 조회한다.
+    private BooleanExpression afterTrendCursor(TrendBoardCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return board.heartCnt.lt(cursor.getHeartCnt())
+                .or(board.heartCnt.eq(cursor.getHeartCnt())
+                        .and(board.shareCnt.lt(cursor.getShareCnt())
+                                .or(board.shareCnt.eq(cursor.getShareCnt())
+                                        .and(board.viewCnt.lt(cursor.getViewCnt())
+                                                .or(board.viewCnt.eq(cursor.getViewCnt())
+                                                        .and(board.id.lt(cursor.getBoardId())))))));
+    }
+
+    private <T> boolean hasNextPage(List<T> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
             return true;
@@ -1,11 +1,18 @@
 package com.forever.dadamda.repository.scrap;
 
 import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.ScrapStatus;
 import com.forever.dadamda.entity.user.User;
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 public interface ScrapRepository extends JpaRepository<Scrap, Long>, ScrapRepositoryCustom {
@@ -17,4 +24,42 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long>, ScrapReposi
     Optional<Slice<Scrap>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
     Long countByUserAndDeletedDateIsNull(User user);
+
+    // 크롤링 스레드 풀이 가득 차서 대기 상태로 남은 스크랩 (status, modified_date 인덱스를 쓴다)
+    List<Scrap> findByStatusAndDeletedDateIsNullAndModifiedDateBeforeOrderByModifiedDate(
+            ScrapStatus status, LocalDateTime modifiedBefore, Pageable pageable);
+
+    @Query("select s.pageUrl from Scrap s "
+            + "where s.user = :user and s.deletedDate is null and s.pageUrl in :pageUrls")
+    List<String> findPageUrlsByUserAndPageUrlIn(@Param("user") User user,
+            @Param("pageUrls") Collection<String> pageUrls);
+
+    // 타입별 개수를 한 번에 센다. (user_id, d_type, deleted_date, ...) 인덱스만 읽는다.
+    @Query(value = "SELECT d_type, COUNT(*) FROM scrap "
+            + "WHERE user_id = :userId AND deleted_date IS NULL GROUP BY d_type",
+            nativeQuery = true)
+    List<Object[]> countByUserIdGroupByDType(@Param("userId") Long userId);
+
+    // 단일 테이블 상속에서는 엔티티 타입을 JPA로 바꿀 수 없어서, 판별 컬럼을 직접 수정한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE scrap SET d_type = :dType WHERE scrap_id = :scrapId", nativeQuery = true)
+    int updateDType(@Param("scrapId") Long scrapId, @Param("dType") String dType);
+
+    // MySQL ngram FULLTEXT 인덱스(V4)로 제목/설명과 메모를 함께 검색하고 관련도 순으로 정렬한다.
+    // 스크랩 점수와 메모 중 가장 높은 점수를 더한다. dType 이 null 이면 모든 타입을 검색한다.
+    @Query(value = "SELECT s.scrap_id FROM scrap s "
+            + "LEFT JOIN (SELECT m.scrap_id, MAX(MATCH (m.memo_text) AGAINST (:keyword)) AS score "
+            + "    FROM memo m JOIN scrap ms ON ms.scrap_id = m.scrap_id "
+            + "    WHERE ms.user_id = :userId AND m.deleted_date IS NULL "
+            + "      AND MATCH (m.memo_text) AGAINST (:keyword) "
+            + "    GROUP BY m.scrap_id) memo_score ON memo_score.scrap_id = s.scrap_id "
+            + "WHERE s.user_id = :userId AND s.deleted_date IS NULL "
+            + "  AND (:dType IS NULL OR s.d_type = :dType) "
+            + "  AND (MATCH (s.title, s.description) AGAINST (:keyword) "
+            + "       OR memo_score.scrap_id IS NOT NULL) "
+            + "ORDER BY MATCH (s.title, s.description) AGAINST (:keyword) "
+            + "    + COALESCE(memo_score.score, 0) DESC, s.scrap_id DESC",
+            nativeQuery = true)
+    Slice<Long> searchScrapIdsByFullText(@Param("userId") Long userId,
+            @Param("dType") String dType, @Param("keyword") String keyword, Pageable pageable);
 }
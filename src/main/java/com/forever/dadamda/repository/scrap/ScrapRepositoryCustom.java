@@ -1,10 +1,19 @@
 package com.forever.dadamda.repository.scrap;
 
+import com.forever.dadamda.dto.scrap.ScrapCursor;
 import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.entity.user.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface ScrapRepositoryCustom {
-    Slice<Scrap> searchKeywordInScrapOrderByCreatedDateDesc(User user, String keyword, Pageable pageable);
+
+    // 제목, 설명, 메모에 keyword 가 포함된 스크랩 id (전문 검색을 쓸 수 없을 때 사용)
+    Slice<Long> searchScrapIdsByKeyword(User user, Class<? extends Scrap> type, String keyword,
+            Pageable pageable);
+
+    Slice<Scrap> getScrapsByCursor(User user, ScrapCursor cursor, int size);
+
+    Slice<Scrap> searchKeywordInScrapByCursor(User user, String keyword, ScrapCursor cursor,
+            int size);
 }
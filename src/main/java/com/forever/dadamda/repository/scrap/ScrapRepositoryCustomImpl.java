@@ -1,12 +1,17 @@
 package com.forever.dadamda.repository.scrap;
 
+import static com.forever.dadamda.entity.QMemo.memo;
 import static com.forever.dadamda.entity.scrap.QScrap.scrap;
 
+import com.forever.dadamda.dto.scrap.ScrapCursor;
 import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.entity.user.User;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -17,8 +22,46 @@ public class ScrapRepositoryCustomImpl implements ScrapRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Slice<Scrap> searchKeywordInScrapOrderByCreatedDateDesc(User user, String keyword,
-            Pageable pageable) {
+    public Slice<Long> searchScrapIdsByKeyword(User user, Class<? extends Scrap> type,
+            String keyword, Pageable pageable) {
+        List<Long> contents = queryFactory
+                .select(scrap.id)
+                .from(scrap)
+                .where(
+                        scrap.user.eq(user)
+                                .and(scrap.deletedDate.isNull())
+                                .and(typeEq(type))
+                                .and(scrap.title.containsIgnoreCase(keyword)
+                                        .or(scrap.description.containsIgnoreCase(keyword))
+                                        .or(memoContains(keyword)))
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .orderBy(scrap.createdDate.desc(), scrap.id.desc())
+                .fetch();
+
+        return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
+    }
+
+    @Override
+    public Slice<Scrap> getScrapsByCursor(User user, ScrapCursor cursor, int size) {
+        List<Scrap> contents = queryFactory
+                .selectFrom(scrap)
+                .where(
+                        scrap.user.eq(user)
+                                .and(scrap.deletedDate.isNull())
+                                .and(afterCursor(cursor))
+                )
+                .limit(size + 1)
+                .orderBy(scrap.createdDate.desc(), scrap.id.desc())
+                .fetch();
+
+        return new SliceImpl<>(contents, PageRequest.of(0, size), hasNextPage(contents, size));
+    }
+
+    @Override
+    public Slice<Scrap> searchKeywordInScrapByCursor(User user, String keyword,
+            ScrapCursor cursor, int size) {
         List<Scrap> contents = queryFactory
                 .selectFrom(scrap)
                 .where(
@@ -26,16 +69,44 @@ public class ScrapRepositoryCustomImpl implements ScrapRepositoryCustom {
                                 .and(scrap.deletedDate.isNull())
                                 .and(scrap.title.containsIgnoreCase(keyword)
                                         .or(scrap.description.containsIgnoreCase(keyword)))
+                                .and(afterCursor(cursor))
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize()+1)
-                .orderBy(scrap.createdDate.desc())
+                .limit(size + 1)
+                .orderBy(scrap.createdDate.desc(), scrap.id.desc())
                 .fetch();
 
-        return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
+        return new SliceImpl<>(contents, PageRequest.of(0, size), hasNextPage(contents, size));
+    }
+
+    private BooleanExpression typeEq(Class<? extends Scrap> type) {
+        if (type == Scrap.class) {
+            return null;
+        }
+
+        return scrap.instanceOf(type);
+    }
+
+    private BooleanExpression memoContains(String keyword) {
+        return JPAExpressions.selectOne()
+                .from(memo)
+                .where(memo.scrap.eq(scrap)
+                        .and(memo.deletedDate.isNull())
+                        .and(memo.memoText.containsIgnoreCase(keyword)))
+                .exists();
+    }
+
+    // offset 대신 마지막으로 받은 (createdDate, id) 다음부터 조회한다.
+    private BooleanExpression afterCursor(ScrapCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return scrap.createdDate.lt(cursor.getCreatedDate())
+                .or(scrap.createdDate.eq(cursor.getCreatedDate())
+                        .and(scrap.id.lt(cursor.getScrapId())));
     }
 
-    private boolean hasNextPage(List<Scrap> contents, int pageSize) {
+    private <T> boolean hasNextPage(List<T> contents, int pageSize) {
         if (contents.size() > pageSize) {
             contents.remove(pageSize);
             return true;
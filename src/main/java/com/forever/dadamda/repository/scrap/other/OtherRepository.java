@@ -7,7 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface OtherRepository extends JpaRepository<Other, Long>, OtherRepositoryCustom {
+public interface OtherRepository extends JpaRepository<Other, Long> {
 
     Optional<Slice<Other>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
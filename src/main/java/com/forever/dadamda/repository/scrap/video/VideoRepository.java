@@ -7,7 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface VideoRepository extends JpaRepository<Video, Long>, VideoRepositoryCustom {
+public interface VideoRepository extends JpaRepository<Video, Long> {
 
     Optional<Slice<Video>> findAllByUserAndDeletedDateIsNull(User user, Pageable pageable);
 
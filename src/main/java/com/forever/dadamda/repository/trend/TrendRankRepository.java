@@ -0,0 +1,39 @@
+package com.forever.dadamda.repository.trend;
+
+import com.forever.dadamda.entity.board.TrendRank;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TrendRankRepository extends JpaRepository<TrendRank, Long>,
+        TrendRankRepositoryCustom {
+
+    @Modifying
+    @Query(value = "DELETE FROM trend_rank WHERE board_id IN (:boardIds)", nativeQuery = true)
+    int deleteByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO trend_rank "
+            + "(board_id, tag, board_created_date, heart_cnt, share_cnt, view_cnt) "
+            + "SELECT board_id, tag, created_date, heart_cnt, share_cnt, view_cnt FROM board "
+            + "WHERE board_id IN (:boardIds) AND is_public = true AND deleted_date IS NULL",
+            nativeQuery = true)
+    int insertFromBoards(@Param("boardIds") Collection<Long> boardIds);
+
+    Optional<TrendRank> findFirstBy();
+
+    @Modifying
+    @Query(value = "DELETE FROM trend_rank", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO trend_rank "
+            + "(board_id, tag, board_created_date, heart_cnt, share_cnt, view_cnt) "
+            + "SELECT board_id, tag, created_date, heart_cnt, share_cnt, view_cnt FROM board "
+            + "WHERE is_public = true AND deleted_date IS NULL",
+            nativeQuery = true)
+    int insertFromAllBoards();
+}
@@ -0,0 +1,12 @@
+package com.forever.dadamda.repository.trend;
+
+import com.forever.dadamda.dto.trend.GetTrendBoardResponse;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface TrendRankRepositoryCustom {
+
+    Slice<GetTrendBoardResponse> getTrendBoardListOrderByRank(LocalDateTime trendStartDateTime,
+            LocalDateTime trendEndDateTime, Pageable pageable, String tag);
+}
@@ -0,0 +1,63 @@
+package com.forever.dadamda.repository.trend;
+
+import static com.forever.dadamda.entity.board.QBoard.board;
+import static com.forever.dadamda.entity.board.QTrendRank.trendRank;
+
+import com.forever.dadamda.dto.board.GetBoardResponse;
+import com.forever.dadamda.dto.trend.GetTrendBoardResponse;
+import com.forever.dadamda.entity.board.TAG;
+import com.forever.dadamda.entity.user.QUser;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+@RequiredArgsConstructor
+public class TrendRankRepositoryCustomImpl implements TrendRankRepositoryCustom {
+
+    private static final QUser author = new QUser("author");
+
+    private final JPAQueryFactory queryFactory;
+
+    // trend_rank 의 (기간, 정렬 키) 인덱스로 기간 안의 보드만 정렬해 한 페이지를 고르고,
+    // 그 행들만 board/users 와 조인한다.
+    @Override
+    public Slice<GetTrendBoardResponse> getTrendBoardListOrderByRank(
+            LocalDateTime trendStartDateTime, LocalDateTime trendEndDateTime, Pageable pageable,
+            String tag) {
+        List<GetTrendBoardResponse> contents = queryFactory.select(
+                        Projections.constructor(GetTrendBoardResponse.class,
+                                author.profileUrl, author.nickname, board.title,
+                                board.description, board.tag, board.uuid, trendRank.heartCnt,
+                                trendRank.shareCnt, trendRank.viewCnt, board.createdDate,
+                                board.thumbnailUrl,
+                                board.contents.substring(0,
+                                        GetBoardResponse.CONTENTS_PREVIEW_LENGTH)))
+                .from(trendRank)
+                .join(trendRank.board, board)
+                .join(board.user, author)
+                .where(
+                        trendRank.boardCreatedDate.between(trendStartDateTime, trendEndDateTime)
+                                .and(tag == null ? null : trendRank.tag.eq(TAG.from(tag)))
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .orderBy(trendRank.heartCnt.desc(), trendRank.shareCnt.desc(),
+                        trendRank.viewCnt.desc(), trendRank.boardId.desc())
+                .fetch();
+
+        return new SliceImpl<>(contents, pageable, hasNextPage(contents, pageable.getPageSize()));
+    }
+
+    private boolean hasNextPage(List<GetTrendBoardResponse> contents, int pageSize) {
+        if (contents.size() > pageSize) {
+            contents.remove(pageSize);
+            return true;
+        }
+        return false;
+    }
+}
@@ -10,6 +10,7 @@ import com.forever.dadamda.dto.board.CreateBoardRequest;
 import com.forever.dadamda.dto.board.GetBoardContentsResponse;
 import com.forever.dadamda.dto.board.GetBoardDetailResponse;
 import com.forever.dadamda.dto.board.GetBoardResponse;
+import com.forever.dadamda.dto.board.GetBoardSuggestionResponse;
 import com.forever.dadamda.dto.board.GetSharedBoardContentsResponse;
 import com.forever.dadamda.dto.board.GetSharedBoardTitleResponse;
 import com.forever.dadamda.dto.board.UpdateBoardContentsRequest;
@@ -26,6 +27,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -45,6 +47,8 @@ public class BoardService {
     private final UserService userService;
     private final BoardRepository boardRepository;
     private final AmazonS3 s3Client;
+    private final TrendRankService trendRankService;
+    private final BoardTitleSuggester boardTitleSuggester;
 
     @Transactional
     public void createBoards(String email, CreateBoardRequest createBoardRequest) {
@@ -53,6 +57,7 @@ public class BoardService {
         Board board = createBoardRequest.toEntity(user, generateUUID());
 
         boardRepository.save(board);
+        boardTitleSuggester.reindexAfterCommit(board.getId());
     }
 
     @Transactional
@@ -63,6 +68,8 @@ public class BoardService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
 
         board.updateDeletedDate(LocalDateTime.now());
+        trendRankService.markChanged(boardUUID);
+        boardTitleSuggester.reindexAfterCommit(board.getId());
     }
 
     @Transactional
@@ -83,9 +90,7 @@ public class BoardService {
     public Slice<GetBoardResponse> getBoardList(String email, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Board> boardSlice = boardRepository.getBoardsList(user, pageable);
-
-        return boardSlice.map(GetBoardResponse::of);
+        return boardRepository.getBoardsList(user, pageable);
     }
 
     @Transactional
@@ -96,6 +101,8 @@ public class BoardService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
 
         board.updateBoard(updateBoardRequest);
+        trendRankService.markChanged(boardUUID);
+        boardTitleSuggester.reindexAfterCommit(board.getId());
 
         if(updateBoardRequest.getIsDeleted()) {
             try {
@@ -118,6 +125,8 @@ public class BoardService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
 
         board.updateBoard(updateBoardRequest);
+        trendRankService.markChanged(boardUUID);
+        boardTitleSuggester.reindexAfterCommit(board.getId());
     }
 
     @Transactional
@@ -161,9 +170,15 @@ public class BoardService {
     public Slice<GetBoardResponse> searchBoards(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Board> boardSlice = boardRepository.searchKeywordInBoardList(user, keyword, pageable);
+        return boardRepository.searchKeywordInBoardList(user, keyword, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GetBoardSuggestionResponse> suggestBoards(String email, String keyword,
+            int size) {
+        User user = userService.validateUser(email);
 
-        return boardSlice.map(GetBoardResponse::of);
+        return boardTitleSuggester.suggestMyBoards(user.getId(), keyword, size);
     }
 
     @Transactional
@@ -212,6 +227,8 @@ public class BoardService {
         if(board.isShared()) {
             board.updateIsShared(false);
             board.updateIsPublic(false);
+            trendRankService.markChanged(boardUUID);
+            boardTitleSuggester.reindexAfterCommit(board.getId());
         } else {
             board.updateIsShared(true);
         }
@@ -234,6 +251,8 @@ public class BoardService {
             board.updateIsPublic(true);
             board.updateIsShared(true);
         }
+        trendRankService.markChanged(boardUUID);
+        boardTitleSuggester.reindexAfterCommit(board.getId());
     }
 
     @Transactional(readOnly = true)
@@ -283,8 +302,10 @@ public class BoardService {
                 .build();
 
         Board copyedBoard = boardRepository.save(newBoard);
+        boardTitleSuggester.reindexAfterCommit(copyedBoard.getId());
 
         copyBoard.addShareCnt();
+        trendRankService.markChanged(copyBoard.getUuid());
 
         return copyedBoard.getUuid();
     }
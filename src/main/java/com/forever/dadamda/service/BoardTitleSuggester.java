@@ -0,0 +1,231 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.dto.board.BoardTitleSummary;
+import com.forever.dadamda.dto.board.GetBoardSuggestionResponse;
+import com.forever.dadamda.repository.board.BoardRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 보드 제목 자동완성. 입력할 때마다 LIKE 로 보드를 검색하지 않고 메모리의 제목 색인에서 찾는다.
+//  - 내 보드: 사용자별 색인. 첫 요청 때 만들고 최근 수정한 보드가 먼저 나온다.
+//  - 트렌드: 공개 보드 전체 색인. 하트가 많은 보드가 먼저 나온다.
+// 보드 생성/수정/공개/삭제 시 커밋 이후 해당 보드만 두 색인에 다시 반영한다.
+// 다른 서버에서 바뀐 보드(와 하트 수)는 반영되지 않으므로, 두 색인 모두 만든 지
+// expire-after-write-minutes 가 지나면 (그 사이 다시 반영해도) 버리고 다시 만든다.
+@Service
+public class BoardTitleSuggester {
+
+    public static final int MAX_SIZE = 20;
+
+    private static final String TREND = "trend";
+
+    private final BoardRepository boardRepository;
+    private final Cache<Long, TitleIndex> userIndexes;
+    private final Cache<String, TitleIndex> trendIndex;
+
+    public BoardTitleSuggester(BoardRepository boardRepository, MeterRegistry meterRegistry,
+            @Value("${suggest.board.maximum-users}") long maximumUsers,
+            @Value("${suggest.board.expire-after-write-minutes}") long expireAfterWriteMinutes,
+            @Value("${suggest.trend.expire-after-write-minutes}") long trendExpireAfterWriteMinutes) {
+        this.boardRepository = boardRepository;
+        this.userIndexes = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfter(new ExpireAfterCreate<Long, TitleIndex>(
+                        Duration.ofMinutes(expireAfterWriteMinutes)))
+                .recordStats()
+                .<Long, TitleIndex>build(), "boardTitleSuggest");
+        this.trendIndex = Caffeine.newBuilder()
+                .expireAfter(new ExpireAfterCreate<String, TitleIndex>(
+                        Duration.ofMinutes(trendExpireAfterWriteMinutes)))
+                .build();
+    }
+
+    public List<GetBoardSuggestionResponse> suggestMyBoards(Long userId, String prefix, int size) {
+        return toResponses(userIndexes.get(userId, this::buildUserIndex).suggest(prefix, size));
+    }
+
+    public List<GetBoardSuggestionResponse> suggestTrendBoards(String prefix, int size) {
+        return toResponses(trendIndex.get(TREND, key -> buildTrendIndex()).suggest(prefix, size));
+    }
+
+    // 보드가 바뀐 트랜잭션이 커밋되면 그 보드를 색인에 다시 반영한다.
+    public void reindexAfterCommit(Long boardId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(boardId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reindex(boardId);
+            }
+        });
+    }
+
+    void reindex(Long boardId) {
+        boardRepository.findBoardTitleById(boardId).ifPresent(board -> {
+            boolean deleted = board.getDeletedDate() != null;
+
+            userIndexes.asMap().computeIfPresent(board.getUserId(), (id, index) -> {
+                index.remove(board.getBoardId());
+                if (!deleted) {
+                    index.put(board.getBoardId(), board.getUuid(), board.getTitle(),
+                            recency(board));
+                }
+                return index;
+            });
+
+            trendIndex.asMap().computeIfPresent(TREND, (key, index) -> {
+                index.remove(board.getBoardId());
+                if (!deleted && board.isPublic()) {
+                    index.put(board.getBoardId(), board.getUuid(), board.getTitle(),
+                            popularity(board));
+                }
+                return index;
+            });
+        });
+    }
+
+    private TitleIndex buildUserIndex(Long userId) {
+        TitleIndex index = new TitleIndex();
+        for (BoardTitleSummary board : boardRepository.findBoardTitlesByUserId(userId)) {
+            index.put(board.getBoardId(), board.getUuid(), board.getTitle(), recency(board));
+        }
+        return index;
+    }
+
+    private TitleIndex buildTrendIndex() {
+        TitleIndex index = new TitleIndex();
+        for (BoardTitleSummary board : boardRepository.findPublicBoardTitles()) {
+            index.put(board.getBoardId(), board.getUuid(), board.getTitle(), popularity(board));
+        }
+        return index;
+    }
+
+    private static long recency(BoardTitleSummary board) {
+        return board.getModifiedDate() == null ? 0
+                : board.getModifiedDate().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long popularity(BoardTitleSummary board) {
+        return board.getHeartCnt() == null ? 0 : board.getHeartCnt();
+    }
+
+    private List<GetBoardSuggestionResponse> toResponses(List<Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(suggestion -> GetBoardSuggestionResponse.of(suggestion.getUuid(),
+                        suggestion.getTitle()))
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Suggestion {
+
+        private final long boardId;
+        private final UUID uuid;
+        private final String title;
+        private final long weight;
+    }
+
+    // 정규화한 제목 순으로 정렬한 맵에서 접두어 범위를 찾고, 그중 weight 가 큰 MAX_SIZE 개를 고른다.
+    // 접두어별 결과는 캐시해 두고, 제목이 바뀌면 비운다.
+    static class TitleIndex {
+
+        private static final int CACHED_PREFIXES = 1000;
+        private static final char KEY_SEPARATOR = '\u0000';
+
+        // 가중치가 큰 순, 같으면 최근 보드 순
+        private static final Comparator<Suggestion> ORDER = Comparator
+                .comparingLong(Suggestion::getWeight).reversed()
+                .thenComparing(Comparator.comparingLong(Suggestion::getBoardId).reversed());
+
+        // 정규화한 제목 + 구분자 + 보드 id -> 보드
+        private final NavigableMap<String, Suggestion> titles = new TreeMap<>();
+        private final Map<Long, String> keyByBoardId = new HashMap<>();
+        private final Map<String, List<Suggestion>> suggestionsByPrefix =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, List<Suggestion>> eldest) {
+                        return size() > CACHED_PREFIXES;
+                    }
+                };
+
+        synchronized void put(long boardId, UUID uuid, String title, long weight) {
+            remove(boardId);
+
+            String key = normalize(title) + KEY_SEPARATOR + boardId;
+            titles.put(key, new Suggestion(boardId, uuid, title, weight));
+            keyByBoardId.put(boardId, key);
+            suggestionsByPrefix.clear();
+        }
+
+        synchronized void remove(long boardId) {
+            String key = keyByBoardId.remove(boardId);
+            if (key != null) {
+                titles.remove(key);
+                suggestionsByPrefix.clear();
+            }
+        }
+
+        synchronized List<Suggestion> suggest(String prefix, int size) {
+            String normalizedPrefix = normalize(prefix);
+            if (normalizedPrefix.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<Suggestion> suggestions = suggestionsByPrefix.computeIfAbsent(normalizedPrefix,
+                    this::findTopSuggestions);
+            return suggestions.subList(0, Math.min(size, suggestions.size()));
+        }
+
+        private List<Suggestion> findTopSuggestions(String normalizedPrefix) {
+            PriorityQueue<Suggestion> top = new PriorityQueue<>(MAX_SIZE + 1, ORDER.reversed());
+            for (Suggestion suggestion : titles.subMap(normalizedPrefix, true,
+                    normalizedPrefix + Character.MAX_VALUE, false).values()) {
+                top.add(suggestion);
+                if (top.size() > MAX_SIZE) {
+                    top.poll();
+                }
+            }
+
+            List<Suggestion> suggestions = new ArrayList<>(top);
+            suggestions.sort(ORDER);
+            return suggestions;
+        }
+
+        // 한글은 자모로 분해(NFKD)해서, 입력 중인 "맥부" 도 "맥북" 의 접두어가 되게 한다.
+        // 호환 자모("맥북ㅍ" 의 ㅍ)도 같은 자모로 바뀐다. 공백은 하나로 줄이고 대소문자는 구분하지 않는다.
+        static String normalize(String text) {
+            return Normalizer.normalize(text, Normalizer.Form.NFKD)
+                    .toLowerCase(Locale.ROOT)
+                    .replaceAll("\\s+", " ")
+                    .stripLeading();
+        }
+    }
+}
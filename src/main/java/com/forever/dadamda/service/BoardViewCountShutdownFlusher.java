@@ -0,0 +1,43 @@
+package com.forever.dadamda.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// 서버가 종료될 때 메모리에 남은 조회수를 반영한다.
+// 웹 서버가 요청을 더 받지 않게 된 뒤, DataSource 가 닫히기 전에 실행된다.
+@Component
+@RequiredArgsConstructor
+public class BoardViewCountShutdownFlusher implements SmartLifecycle {
+
+    // 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)보다 나중에 멈춘다.
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private final BoardViewCounter boardViewCounter;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        try {
+            boardViewCounter.flush();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
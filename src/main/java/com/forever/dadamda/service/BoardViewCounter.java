@@ -0,0 +1,81 @@
+package com.forever.dadamda.service;
+
+import io.sentry.Sentry;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 보드 조회수를 메모리에 모아두었다가 주기적으로 한 번의 배치 UPDATE 로 반영한다. (write-behind)
+@Service
+@RequiredArgsConstructor
+public class BoardViewCounter {
+
+    private static final String ADD_VIEW_CNT_SQL =
+            "UPDATE board SET view_cnt = view_cnt + ? WHERE uuid = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendRankService trendRankService;
+
+    // 조회가 없는 보드의 카운터도 지우지 않는다. increment 가 이미 가져간 카운터를 지우면
+    // 그 카운터에 더한 조회수가 반영되지 않고 사라지기 때문이다. (보드 수만큼만 남는다)
+    private final Map<UUID, LongAdder> pendingViewCnts = new ConcurrentHashMap<>();
+
+    public void increment(UUID boardUUID) {
+        pendingViewCnts.computeIfAbsent(boardUUID, uuid -> new LongAdder()).increment();
+    }
+
+    // 종료 시에는 BoardViewCountShutdownFlusher 가 프록시를 통해 호출한다.
+    // (@PreDestroy 는 프록시를 거치지 않아 트랜잭션 없이 실행되고, DataSource 가 먼저 닫힐 수 있다)
+    @Scheduled(fixedDelayString = "${trend.view-count.flush-interval-millis}")
+    @Transactional
+    public synchronized void flush() {
+        List<UUID> boardUUIDs = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        pendingViewCnts.forEach((boardUUID, viewCnt) -> {
+            long delta = viewCnt.sum();
+            if (delta == 0) {
+                return;
+            }
+
+            // reset 대신 읽은 만큼만 빼서, 읽는 사이에 들어온 조회수는 다음 주기로 넘긴다.
+            viewCnt.add(-delta);
+            boardUUIDs.add(boardUUID);
+            batchArgs.add(new Object[]{delta, toBytes(boardUUID)});
+        });
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(ADD_VIEW_CNT_SQL, batchArgs);
+            boardUUIDs.forEach(trendRankService::markChanged);
+        } catch (Exception e) {
+            Sentry.captureException(e);
+
+            // 반영에 실패한 조회수는 버리지 않고 다음 주기에 다시 시도한다.
+            for (int i = 0; i < boardUUIDs.size(); i++) {
+                pendingViewCnts.computeIfAbsent(boardUUIDs.get(i), uuid -> new LongAdder())
+                        .add((long) batchArgs.get(i)[0]);
+            }
+        }
+    }
+
+    // Board.uuid 는 BINARY(16) 컬럼이라 Hibernate 와 같은 방식(big-endian)으로 변환한다.
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
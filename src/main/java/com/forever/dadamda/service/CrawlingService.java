@@ -0,0 +1,69 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CrawlingService {
+
+    private final WebClientService webClientService;
+    private final Cache<String, WebClientBodyResponse> crawlingCache;
+
+    // 진행 중인 크롤링 (같은 URL을 동시에 요청하면 먼저 시작한 크롤링 결과를 함께 기다린다)
+    private final ConcurrentMap<String, CompletableFuture<WebClientBodyResponse>> inFlightCrawls =
+            new ConcurrentHashMap<>();
+
+    @Value("${crawling.server.post.api.endPoint}")
+    private String crawlingApiEndPoint;
+
+    public WebClientBodyResponse crawl(String pageUrl) {
+        String cacheKey = UrlService.canonicalize(pageUrl);
+
+        WebClientBodyResponse cachedResponse = crawlingCache.getIfPresent(cacheKey);
+        if (cachedResponse != null) {
+            return cachedResponse;
+        }
+
+        CompletableFuture<WebClientBodyResponse> crawl = new CompletableFuture<>();
+        CompletableFuture<WebClientBodyResponse> inFlightCrawl = inFlightCrawls.putIfAbsent(
+                cacheKey, crawl);
+        if (inFlightCrawl != null) {
+            return inFlightCrawl.join();
+        }
+
+        try {
+            // 캐시 확인과 putIfAbsent 사이에 다른 크롤링이 끝났을 수 있으므로 캐시를 다시 확인한다.
+            cachedResponse = crawlingCache.getIfPresent(cacheKey);
+            if (cachedResponse != null) {
+                crawl.complete(cachedResponse);
+                return cachedResponse;
+            }
+
+            // 크롤링에 실패한 결과(null)는 캐싱하지 않고 다음 요청에서 다시 크롤링한다.
+            WebClientBodyResponse crawlingResponse = webClientService.crawlingItem(
+                    crawlingApiEndPoint, pageUrl);
+            if (crawlingResponse != null) {
+                crawlingCache.put(cacheKey, crawlingResponse);
+            }
+
+            crawl.complete(crawlingResponse);
+            return crawlingResponse;
+        } catch (RuntimeException e) {
+            crawl.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightCrawls.remove(cacheKey, crawl);
+        }
+    }
+
+    public void evictAll() {
+        crawlingCache.invalidateAll();
+    }
+}
@@ -0,0 +1,37 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.exception.InvalidException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+// 커서 값들을 클라이언트가 해석할 수 없는 문자열(Base64 URL)로 변환한다.
+public class CursorService {
+
+    private static final String DELIMITER = "|";
+
+    public static String encode(Object... values) {
+        String raw = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int valueCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split("\\|", -1);
+
+            if (values.length != valueCount) {
+                throw new InvalidException(ErrorCode.INVALID_CURSOR);
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.forever.dadamda.service;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+
+// 캐시 항목을 만든 시각부터 duration 이 지나면 만료시킨다.
+// 메모리 색인처럼 값을 그 자리에서 고치는(computeIfPresent) 캐시에 expireAfterWrite 를 쓰면
+// 고칠 때마다 만료 시각이 늘어나서, 다른 서버의 변경을 반영하도록 다시 만드는 일이 계속 미뤄진다.
+public class ExpireAfterCreate<K, V> implements Expiry<K, V> {
+
+    private final long durationNanos;
+
+    public ExpireAfterCreate(Duration duration) {
+        this.durationNanos = duration.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return durationNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,133 @@
+package com.forever.dadamda.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.forever.dadamda.dto.export.ExportBoardResponse;
+import com.forever.dadamda.dto.export.ExportLine;
+import com.forever.dadamda.dto.export.ExportScrapResponse;
+import com.forever.dadamda.entity.Memo;
+import com.forever.dadamda.entity.board.Board;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.service.user.UserService;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 사용자의 스크랩(메모 포함)과 보드를 한 줄에 하나씩 JSON 으로 내보낸다. (NDJSON)
+// 영속성 컨텍스트가 없는 StatelessSession 의 forward-only 커서로 한 행씩 읽어 바로 쓰므로,
+// 라이브러리 크기와 관계없이 메모리를 일정하게 쓴다.
+// 스크랩과 메모는 스크랩 id 순으로 조인해서 한 번에 읽고, 스크랩 id 가 바뀔 때 이전 스크랩을 쓴다.
+@Service
+public class ExportService {
+
+    private static final String SCRAPS_WITH_MEMOS = "select s, m from Scrap s "
+            + "left join s.memoList m on m.deletedDate is null "
+            + "where s.user.id = :userId and s.deletedDate is null "
+            + "order by s.id, m.id";
+
+    private static final String BOARDS = "select b from Board b "
+            + "where b.user.id = :userId and b.deletedDate is null "
+            + "order by b.id";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UserService userService;
+    private final SessionFactory sessionFactory;
+    private final ObjectWriter lineWriter;
+    private final int fetchSize;
+
+    public ExportService(UserService userService, EntityManagerFactory entityManagerFactory,
+            ObjectMapper objectMapper, @Value("${export.fetch-size}") int fetchSize) {
+        this.userService = userService;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.lineWriter = objectMapper.writerFor(ExportLine.class);
+        this.fetchSize = fetchSize;
+    }
+
+    // out 은 닫지 않는다.
+    public void export(String email, OutputStream out) throws IOException {
+        User user = userService.validateUser(email);
+
+        BufferedOutputStream bufferedOut = new BufferedOutputStream(out, BUFFER_SIZE);
+        StatelessSession session = sessionFactory.openStatelessSession();
+        try {
+            // 스크랩과 보드를 같은 스냅샷에서 읽는다.
+            Transaction transaction = session.beginTransaction();
+            try {
+                exportScraps(session, user.getId(), bufferedOut);
+                exportBoards(session, user.getId(), bufferedOut);
+            } finally {
+                transaction.rollback();
+            }
+        } finally {
+            session.close();
+        }
+
+        bufferedOut.flush();
+    }
+
+    private void exportScraps(StatelessSession session, Long userId, OutputStream out)
+            throws IOException {
+        ScrollableResults results = scroll(session, SCRAPS_WITH_MEMOS, userId);
+        try {
+            Scrap scrap = null;
+            List<Memo> memos = new ArrayList<>();
+
+            while (results.next()) {
+                Scrap rowScrap = (Scrap) results.get(0);
+                Memo rowMemo = (Memo) results.get(1);
+
+                if (scrap != null && !scrap.getId().equals(rowScrap.getId())) {
+                    writeLine(out, "scrap", ExportScrapResponse.of(scrap, memos));
+                    memos.clear();
+                }
+                scrap = rowScrap;
+                if (rowMemo != null) {
+                    memos.add(rowMemo);
+                }
+            }
+
+            if (scrap != null) {
+                writeLine(out, "scrap", ExportScrapResponse.of(scrap, memos));
+            }
+        } finally {
+            results.close();
+        }
+    }
+
+    private void exportBoards(StatelessSession session, Long userId, OutputStream out)
+            throws IOException {
+        ScrollableResults results = scroll(session, BOARDS, userId);
+        try {
+            while (results.next()) {
+                writeLine(out, "board", ExportBoardResponse.of((Board) results.get(0)));
+            }
+        } finally {
+            results.close();
+        }
+    }
+
+    private ScrollableResults scroll(StatelessSession session, String query, Long userId) {
+        return session.createQuery(query)
+                .setParameter("userId", userId)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private void writeLine(OutputStream out, String type, Object data) throws IOException {
+        out.write(lineWriter.writeValueAsBytes(ExportLine.of(type, data)));
+        out.write('\n');
+    }
+}
@@ -12,12 +12,13 @@ import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.scrap.ScrapSearchIndex;
 import com.forever.dadamda.service.scrap.ScrapService;
 import com.forever.dadamda.service.user.UserService;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
-import net.minidev.json.parser.ParseException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -28,23 +29,17 @@ public class MemoService {
     private final UserService userService;
     private final ScrapRepository scrapRepository;
     private final ScrapService scrapService;
+    private final ScrapSearchIndex scrapSearchIndex;
 
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public CreateHighlightResponse createHighlights(String email,
             CreateHighlightRequest createHighlightRequest) {
         User user = userService.validateUser(email);
 
         //1. 해당 pageUrl이 DB에 없으면, 스크랩해서 넣는다.
+        //   (하이라이트가 동시에 여러 번 들어와도 스크랩은 하나만 저장된다.)
         String pageUrl = createHighlightRequest.getPageUrl();
-        Scrap scrap = scrapRepository
-                .findByPageUrlAndUserAndDeletedDateIsNull(pageUrl, user)
-                .orElseGet(() -> {
-                    try {
-                        return scrapService.saveScraps(user, pageUrl);
-                    } catch (ParseException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
+        Scrap scrap = scrapService.findOrSaveScraps(user, pageUrl);
 
         //2. 해당 pageUrl에 해당하는 스크랩에 메모를 저장한다.
         Memo memo = Memo.builder()
@@ -54,6 +49,7 @@ public class MemoService {
                 .build();
 
         memoRepository.save(memo);
+        scrapSearchIndex.reindexAfterCommit(user.getId(), scrap.getId());
 
         return CreateHighlightResponse.of(pageUrl);
     }
@@ -72,6 +68,7 @@ public class MemoService {
                 .build();
 
         memoRepository.save(memo);
+        scrapSearchIndex.reindexAfterCommit(user.getId(), scrap.getId());
     }
 
     @Transactional
@@ -87,6 +84,7 @@ public class MemoService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMO));
 
         memo.updateDeletedDate(LocalDateTime.now());
+        scrapSearchIndex.reindexAfterCommit(user.getId(), scrap.getId());
     }
 
     @Transactional
@@ -102,5 +100,6 @@ public class MemoService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMO));
 
         memo.update(updateMemoRequest.getMemoText());
+        scrapSearchIndex.reindexAfterCommit(user.getId(), scrap.getId());
     }
 }
@@ -0,0 +1,224 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.dto.trend.GetPopularUsersResponse;
+import com.forever.dadamda.repository.board.BoardRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 트렌딩 인기 유저 순위표.
+// 요청된 기간(시 단위로 맞춘다)마다 상위 maxSize 명을 미리 계산해 불변 스냅샷으로 들고 있다가 limit 만큼 잘라서 반환한다.
+// 스냅샷은 주기적으로 다시 계산해 통째로 교체하므로, 조회는 잠금 없이 항상 완성된 순위표를 읽는다.
+@Service
+public class PopularUsersLeaderboard {
+
+    private final BoardRepository boardRepository;
+    private final Timer refreshTimer;
+
+    private final int maxSize;
+    private final int maxWindows;
+    private final long idleExpireMillis;
+
+    private volatile Map<Window, Snapshot> snapshots = Map.of();
+    private final Map<Window, Long> lastRequestedMillis = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Window, CompletableFuture<Snapshot>> inFlightLoads =
+            new ConcurrentHashMap<>();
+
+    public PopularUsersLeaderboard(BoardRepository boardRepository, MeterRegistry meterRegistry,
+            @Value("${trend.popular-users.max-size}") int maxSize,
+            @Value("${trend.popular-users.max-windows}") int maxWindows,
+            @Value("${trend.popular-users.idle-expire-minutes}") long idleExpireMinutes) {
+        this.boardRepository = boardRepository;
+        this.maxSize = maxSize;
+        this.maxWindows = maxWindows;
+        this.idleExpireMillis = Duration.ofMinutes(idleExpireMinutes).toMillis();
+
+        this.refreshTimer = Timer.builder("trend.popular_users.refresh")
+                .description("인기 유저 순위표 전체 재계산 시간")
+                .register(meterRegistry);
+        Gauge.builder("trend.popular_users.staleness", this, PopularUsersLeaderboard::getMaxStalenessSeconds)
+                .description("가장 오래된 인기 유저 스냅샷의 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("trend.popular_users.windows", this, leaderboard -> leaderboard.snapshots.size())
+                .description("캐시 중인 인기 유저 조회 기간 수")
+                .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GetPopularUsersResponse> getPopularUsers(LocalDateTime startDate,
+            LocalDateTime endDate, Long limit) {
+        int size = limit == null ? maxSize : (int) Math.max(0, Math.min(limit, Integer.MAX_VALUE));
+
+        // 스냅샷보다 많이 요청하면 캐시하지 않고 바로 계산한다.
+        if (size > maxSize) {
+            return findPopularUsers(startDate, endDate, size);
+        }
+
+        Window window = Window.of(startDate, endDate);
+        lastRequestedMillis.put(window, System.currentTimeMillis());
+
+        Snapshot snapshot = snapshots.get(window);
+        if (snapshot == null) {
+            snapshot = loadSnapshot(window);
+        }
+
+        List<GetPopularUsersResponse> users = snapshot.getUsers();
+        return users.size() <= size ? users : users.subList(0, size);
+    }
+
+    // 같은 기간을 동시에 처음 요청하면, 먼저 시작한 계산 결과를 함께 기다린다.
+    private Snapshot loadSnapshot(Window window) {
+        CompletableFuture<Snapshot> load = new CompletableFuture<>();
+        CompletableFuture<Snapshot> inFlightLoad = inFlightLoads.putIfAbsent(window, load);
+        if (inFlightLoad != null) {
+            return inFlightLoad.join();
+        }
+
+        try {
+            Snapshot snapshot = snapshots.get(window);
+            if (snapshot == null) {
+                snapshot = new Snapshot(
+                        findPopularUsers(window.getStartDate(), window.getEndDate(), maxSize));
+                putSnapshot(window, snapshot);
+            }
+
+            load.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(window, load);
+        }
+    }
+
+    // 오래 요청되지 않은 기간은 버리고, 나머지 기간의 순위표를 다시 계산해 한 번에 교체한다.
+    @Scheduled(fixedDelayString = "${trend.popular-users.refresh-interval-millis}")
+    @Transactional(readOnly = true)
+    public void refreshAll() {
+        refreshTimer.record(() -> {
+            long idleBefore = System.currentTimeMillis() - idleExpireMillis;
+            lastRequestedMillis.values().removeIf(requestedMillis -> requestedMillis < idleBefore);
+
+            Map<Window, Snapshot> refreshed = new HashMap<>();
+            for (Window window : snapshots.keySet()) {
+                if (lastRequestedMillis.containsKey(window)) {
+                    refreshed.put(window, new Snapshot(
+                            findPopularUsers(window.getStartDate(), window.getEndDate(), maxSize)));
+                }
+            }
+
+            synchronized (this) {
+                // 재계산하는 동안 새로 추가된 기간은 그대로 유지한다.
+                snapshots.forEach(refreshed::putIfAbsent);
+                refreshed.keySet().retainAll(lastRequestedMillis.keySet());
+                snapshots = Map.copyOf(refreshed);
+            }
+        });
+    }
+
+    public List<Map<String, Object>> getSnapshotStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        return snapshots.entrySet().stream()
+                .map(entry -> Map.<String, Object>of(
+                        "startDate", entry.getKey().getStartDate(),
+                        "endDate", entry.getKey().getEndDate(),
+                        "size", entry.getValue().getUsers().size(),
+                        "computedAt", entry.getValue().getComputedAt(),
+                        "stalenessSeconds",
+                        Duration.between(entry.getValue().getComputedAt(), now).getSeconds()))
+                .collect(Collectors.toList());
+    }
+
+    private synchronized void putSnapshot(Window window, Snapshot snapshot) {
+        Map<Window, Snapshot> updated = new HashMap<>(snapshots);
+        updated.put(window, snapshot);
+
+        // 기간이 너무 많아지면 가장 오래 요청되지 않은 기간부터 버린다.
+        while (updated.size() > maxWindows) {
+            Window oldest = updated.keySet().stream()
+                    .min(Comparator.comparing(
+                            (Window key) -> lastRequestedMillis.getOrDefault(key, 0L)))
+                    .get();
+            updated.remove(oldest);
+            lastRequestedMillis.remove(oldest);
+        }
+
+        snapshots = Map.copyOf(updated);
+    }
+
+    private List<GetPopularUsersResponse> findPopularUsers(LocalDateTime startDate,
+            LocalDateTime endDate, long limit) {
+        return boardRepository.getPopularUsersByHeartTotalCnt(startDate, endDate, limit)
+                .stream()
+                .map(user -> GetPopularUsersResponse.of(user.getProfileUrl(), user.getNickname()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private double getMaxStalenessSeconds() {
+        LocalDateTime now = LocalDateTime.now();
+        return snapshots.values().stream()
+                .mapToLong(snapshot -> Duration.between(snapshot.getComputedAt(), now).getSeconds())
+                .max()
+                .orElse(0L);
+    }
+
+    // 요청 기간을 시 단위로 넓혀서(시작은 내림, 끝은 올림) 같은 스냅샷을 쓰게 한다.
+    // "지금부터 7일 전까지" 처럼 초 단위로 움직이는 기간도 한 시간 동안은 같은 기간이 된다.
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Window {
+
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+
+        private static Window of(LocalDateTime startDate, LocalDateTime endDate) {
+            return new Window(floorToHour(startDate), ceilToHour(endDate));
+        }
+
+        private static LocalDateTime floorToHour(LocalDateTime dateTime) {
+            return dateTime == null ? null : dateTime.truncatedTo(ChronoUnit.HOURS);
+        }
+
+        private static LocalDateTime ceilToHour(LocalDateTime dateTime) {
+            if (dateTime == null) {
+                return null;
+            }
+
+            LocalDateTime floor = dateTime.truncatedTo(ChronoUnit.HOURS);
+            return floor.equals(dateTime) ? floor : floor.plusHours(1);
+        }
+    }
+
+    @Getter
+    private static class Snapshot {
+
+        private final List<GetPopularUsersResponse> users;
+        private final LocalDateTime computedAt = LocalDateTime.now();
+
+        private Snapshot(List<GetPopularUsersResponse> users) {
+            this.users = users;
+        }
+    }
+}
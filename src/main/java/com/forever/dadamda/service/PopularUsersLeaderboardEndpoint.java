@@ -0,0 +1,31 @@
+package com.forever.dadamda.service;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+// 운영자용 인기 유저 순위표 관리 엔드포인트
+// HTTP(/actuator/**)는 SecurityConfig 에서 막혀 있으므로 JMX 로만 쓴다. (application.yml 의
+// spring.jmx.enabled, management.endpoints.jmx.exposure.include 참고)
+@Component
+@Endpoint(id = "popularusers")
+@RequiredArgsConstructor
+public class PopularUsersLeaderboardEndpoint {
+
+    private final PopularUsersLeaderboard popularUsersLeaderboard;
+
+    @ReadOperation
+    public List<Map<String, Object>> snapshots() {
+        return popularUsersLeaderboard.getSnapshotStatus();
+    }
+
+    @WriteOperation
+    public List<Map<String, Object>> refresh() {
+        popularUsersLeaderboard.refreshAll();
+        return popularUsersLeaderboard.getSnapshotStatus();
+    }
+}
@@ -0,0 +1,50 @@
+package com.forever.dadamda.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 여러 서버에서 같은 스케줄 작업이 동시에 돌지 않도록 scheduler_lock 테이블의 행으로 잠근다.
+// 잠금은 바로 커밋되어야 다른 서버가 볼 수 있으므로 호출한 쪽의 트랜잭션에 참여하지 않는다.
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SchedulerLockService {
+
+    private static final String LOCKED_BY = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 잠금을 얻으면 true. 잡고 있던 서버가 죽어도 lockAtMostFor 가 지나면 다른 서버가 잡을 수 있다.
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        int updated = jdbcTemplate.update("UPDATE scheduler_lock SET locked_until = ?, locked_by = ? "
+                + "WHERE name = ? AND locked_until <= ?", lockedUntil, LOCKED_BY, name, now);
+        if (updated > 0) {
+            return true;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO scheduler_lock (name, locked_until, locked_by) "
+                    + "VALUES (?, ?, ?)", name, lockedUntil, LOCKED_BY);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 작업이 끝난 뒤에도 keepLockedFor 동안은 잠가 두어, 시계가 조금 늦은 서버가 같은 작업을 다시 하지 않게 한다.
+    public void unlock(String name, Duration keepLockedFor) {
+        jdbcTemplate.update("UPDATE scheduler_lock SET locked_until = ? "
+                        + "WHERE name = ? AND locked_by = ?",
+                LocalDateTime.now().plus(keepLockedFor), name, LOCKED_BY);
+    }
+}
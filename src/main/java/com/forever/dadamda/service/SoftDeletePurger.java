@@ -0,0 +1,199 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.service.user.NicknameAllocator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sentry.Sentry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// deletedDate 가 retention-days 보다 오래된 행을 작은 묶음으로 나누어 완전히 삭제한다.
+// 묶음마다 트랜잭션을 따로 쓰고 묶음 사이에 쉬어서, 운영 중인 요청이 오래 잠기지 않게 한다.
+// 외래키 순서대로 자식 행(메모, 하트, trend_rank)을 먼저 지운다.
+// 서버마다 같은 cron 으로 실행되므로, scheduler_lock 으로 잠가서 한 서버만 정리한다.
+@Slf4j
+@Service
+public class SoftDeletePurger {
+
+    private static final String PURGE_LOCK_NAME = "soft-delete-purge";
+    private static final Duration PURGE_LOCK_AT_MOST_FOR = Duration.ofHours(3);
+    private static final Duration PURGE_KEEP_LOCKED_FOR = Duration.ofMinutes(10);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NicknameAllocator nicknameAllocator;
+    private final TrendRankService trendRankService;
+    private final SchedulerLockService schedulerLockService;
+    private final MeterRegistry meterRegistry;
+
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int userChunkSize;
+    private final long pauseMillis;
+
+    public SoftDeletePurger(NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, NicknameAllocator nicknameAllocator,
+            TrendRankService trendRankService, SchedulerLockService schedulerLockService,
+            MeterRegistry meterRegistry,
+            @Value("${purge.retention-days}") int retentionDays,
+            @Value("${purge.chunk-size}") int chunkSize,
+            @Value("${purge.user-chunk-size}") int userChunkSize,
+            @Value("${purge.pause-millis}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nicknameAllocator = nicknameAllocator;
+        this.trendRankService = trendRankService;
+        this.schedulerLockService = schedulerLockService;
+        this.meterRegistry = meterRegistry;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.userChunkSize = userChunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(cron = "${purge.cron}")
+    public void purgeScheduled() {
+        if (!schedulerLockService.tryLock(PURGE_LOCK_NAME, PURGE_LOCK_AT_MOST_FOR)) {
+            return;
+        }
+
+        try {
+            purge(LocalDateTime.now().minusDays(retentionDays));
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            log.error("삭제된 행 정리 실패", e);
+        } finally {
+            schedulerLockService.unlock(PURGE_LOCK_NAME, PURGE_KEEP_LOCKED_FOR);
+        }
+    }
+
+    // 테이블별로 지운 행 수를 반환한다.
+    public Map<String, Long> purge(LocalDateTime deletedBefore) {
+        Map<String, Long> purgedRows = new LinkedHashMap<>();
+        for (String table : List.of("users", "board", "heart", "trend_rank", "scrap", "memo")) {
+            purgedRows.put(table, 0L);
+        }
+
+        purgeChunks("SELECT user_id FROM users WHERE deleted_date < :deletedBefore",
+                deletedBefore, userChunkSize, userIds -> purgeUsers(userIds, purgedRows));
+        purgeChunks("SELECT board_id FROM board WHERE deleted_date < :deletedBefore",
+                deletedBefore, chunkSize, boardIds -> purgeBoards(boardIds, purgedRows));
+        purgeChunks("SELECT heart_id FROM heart WHERE deleted_date < :deletedBefore",
+                deletedBefore, chunkSize, heartIds -> add(purgedRows, "heart",
+                        delete("DELETE FROM heart WHERE heart_id IN (:ids)", heartIds)));
+        purgeChunks("SELECT scrap_id FROM scrap WHERE deleted_date < :deletedBefore",
+                deletedBefore, chunkSize, scrapIds -> purgeScraps(scrapIds, purgedRows));
+        purgeChunks("SELECT memo_id FROM memo WHERE deleted_date < :deletedBefore",
+                deletedBefore, chunkSize, memoIds -> add(purgedRows, "memo",
+                        delete("DELETE FROM memo WHERE memo_id IN (:ids)", memoIds)));
+
+        purgedRows.forEach((table, count) ->
+                meterRegistry.counter("purge.rows", "table", table).increment(count));
+        log.info("{} 이전에 삭제된 행 정리: {}", deletedBefore, purgedRows);
+
+        return purgedRows;
+    }
+
+    // 탈퇴한 사용자의 스크랩, 메모, 보드, 하트를 모두 지운 뒤 사용자를 지운다.
+    private void purgeUsers(List<Long> userIds, Map<String, Long> purgedRows) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", userIds);
+        List<String> nicknames = jdbcTemplate.queryForList(
+                "SELECT nickname FROM users WHERE user_id IN (:ids)", params, String.class);
+
+        // 다른 사용자의 보드에 남아 있던(취소되지 않은) 하트가 지워지므로, 그 보드의 하트 수를 줄이고
+        // 커밋된 뒤 trend_rank 에 반영한다.
+        List<byte[]> heartedBoardUUIDs = jdbcTemplate.queryForList("SELECT DISTINCT b.uuid "
+                + "FROM board b JOIN heart h ON h.board_id = b.board_id "
+                + "WHERE h.user_id IN (:ids) AND h.deleted_date IS NULL "
+                + "AND b.user_id NOT IN (:ids)", params, byte[].class);
+        jdbcTemplate.update("UPDATE board SET heart_cnt = heart_cnt - "
+                + "(SELECT COUNT(*) FROM heart h WHERE h.board_id = board.board_id "
+                + "AND h.user_id IN (:ids) AND h.deleted_date IS NULL) "
+                + "WHERE user_id NOT IN (:ids) AND board_id IN (SELECT board_id FROM heart "
+                + "WHERE user_id IN (:ids) AND deleted_date IS NULL)", params);
+
+        add(purgedRows, "memo", delete("DELETE FROM memo WHERE scrap_id IN "
+                + "(SELECT scrap_id FROM scrap WHERE user_id IN (:ids))", userIds));
+        add(purgedRows, "scrap", delete("DELETE FROM scrap WHERE user_id IN (:ids)", userIds));
+        add(purgedRows, "heart", delete("DELETE FROM heart WHERE user_id IN (:ids) OR board_id IN "
+                + "(SELECT board_id FROM board WHERE user_id IN (:ids))", userIds));
+        add(purgedRows, "trend_rank", delete("DELETE FROM trend_rank WHERE board_id IN "
+                + "(SELECT board_id FROM board WHERE user_id IN (:ids))", userIds));
+        add(purgedRows, "board", delete("DELETE FROM board WHERE user_id IN (:ids)", userIds));
+        add(purgedRows, "users", delete("DELETE FROM users WHERE user_id IN (:ids)", userIds));
+
+        nicknames.forEach(nicknameAllocator::releaseAfterCommit);
+        heartedBoardUUIDs.forEach(uuid -> trendRankService.markChanged(toUUID(uuid)));
+    }
+
+    private void purgeBoards(List<Long> boardIds, Map<String, Long> purgedRows) {
+        add(purgedRows, "heart", delete("DELETE FROM heart WHERE board_id IN (:ids)", boardIds));
+        add(purgedRows, "trend_rank",
+                delete("DELETE FROM trend_rank WHERE board_id IN (:ids)", boardIds));
+        add(purgedRows, "board", delete("DELETE FROM board WHERE board_id IN (:ids)", boardIds));
+    }
+
+    private void purgeScraps(List<Long> scrapIds, Map<String, Long> purgedRows) {
+        add(purgedRows, "memo", delete("DELETE FROM memo WHERE scrap_id IN (:ids)", scrapIds));
+        add(purgedRows, "scrap", delete("DELETE FROM scrap WHERE scrap_id IN (:ids)", scrapIds));
+    }
+
+    // 대상 id 를 size 개씩 읽어 지우는 것을 더 이상 대상이 없을 때까지 반복한다.
+    private void purgeChunks(String selectIdsSql, LocalDateTime deletedBefore, int size,
+            Consumer<List<Long>> purgeChunk) {
+        MapSqlParameterSource params = new MapSqlParameterSource("deletedBefore", deletedBefore);
+
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    selectIdsSql + " ORDER BY 1 LIMIT " + size, params, Long.class);
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> purgeChunk.accept(ids));
+
+            if (ids.size() < size) {
+                return;
+            }
+            pause();
+        }
+    }
+
+    private long delete(String sql, List<Long> ids) {
+        return jdbcTemplate.update(sql, new MapSqlParameterSource("ids", ids));
+    }
+
+    private void add(Map<String, Long> purgedRows, String table, long count) {
+        purgedRows.merge(table, count, Long::sum);
+    }
+
+    // Board.uuid 는 BINARY(16) 컬럼이라 Hibernate 와 같은 방식(big-endian)으로 변환한다.
+    private static UUID toUUID(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
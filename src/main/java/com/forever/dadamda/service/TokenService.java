@@ -1,40 +1,96 @@
 package com.forever.dadamda.service;
 
+import com.forever.dadamda.dto.user.AuthUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class TokenService {
 
+    private final MeterRegistry meterRegistry;
+
     private Key secretKey;
 
+    // 설정이 끝난 파서는 스레드 안전하므로 한 번만 만들어 재사용한다.
+    private JwtParser jwtParser;
+
+    // 토큰 해시 -> 서명 검증이 끝난 claims (토큰의 exp 시각에 만료된다)
+    private Cache<String, Claims> verifiedTokenCache;
+
     @Value("${security.jwt.token.secret-key}")
     private String SECRET_KEY;
 
     @Value("${security.jwt.token.expire-length}")
     private Long EXPIRE_LENGTH;
 
+    @Value("${security.jwt.verified-token-cache.maximum-size}")
+    private long verifiedTokenCacheMaximumSize;
+
     @PostConstruct
     protected void init() {
         secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+
+        verifiedTokenCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheMaximumSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+                        long remainingMillis =
+                                claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Claims claims, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .<String, Claims>build(), "verifiedToken");
     }
 
-    public String generateToken(String email, String role) {
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String USER_UUID_CLAIM = "uuid";
+
+    public String generateToken(String email, Long userId, UUID userUuid, String role) {
         Claims claims = Jwts.claims().setSubject(email);
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(USER_UUID_CLAIM, userUuid.toString());
         claims.put("role", role);
 
         return Jwts.builder().setClaims(claims)
@@ -44,21 +100,45 @@ public class TokenService {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(secretKey)
-                .build().parseClaimsJws(token);
+    // 토큰을 한 번만 파싱해 서명과 만료를 검증하고 claims 를 반환한다.
+    // 최근에 검증한 토큰이면 다시 검증하지 않고 캐시된 claims 를 반환한다.
+    // 검증에 실패하면 JwtException 을 던진다.
+    public Claims parseClaims(String token) {
+        String tokenHash = hash(token);
+
+        Claims cachedClaims = verifiedTokenCache.getIfPresent(tokenHash);
+        if (cachedClaims != null && cachedClaims.getExpiration().after(new Date())) {
+            return cachedClaims;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        // exp 가 없는 토큰은 만료 시각을 알 수 없으므로 캐시하지 않는다.
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(tokenHash, claims);
+        }
 
-        return claims.getBody().getExpiration()
-                .after(new Date(System.currentTimeMillis()));
+        return claims;
     }
 
-    public String getEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build().parseClaimsJws(token).getBody().getSubject();
+    public AuthUser getAuthUser(Claims claims) {
+        String userUuid = claims.get(USER_UUID_CLAIM, String.class);
+
+        return new AuthUser(claims.get(USER_ID_CLAIM, Long.class),
+                userUuid == null ? null : UUID.fromString(userUuid), claims.getSubject());
     }
 
     public String resolveToken(HttpServletRequest request) {
         return request.getHeader("X-AUTH-TOKEN");
     }
-}
\ No newline at end of file
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
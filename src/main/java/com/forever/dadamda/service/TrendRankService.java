@@ -0,0 +1,137 @@
+package com.forever.dadamda.service;
+
+import com.forever.dadamda.repository.board.BoardRepository;
+import com.forever.dadamda.repository.trend.TrendRankRepository;
+import io.sentry.Sentry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// trend_rank 테이블을 관리한다.
+// 하트/공유/조회수, 게시 여부, 태그가 바뀐 보드를 모아두었다가 주기적으로 그 보드들만 다시 반영하고,
+// 하루에 한 번은 전체를 다시 만들어 어긋난 행을 바로잡는다.
+// 전체 재구성은 scheduler_lock 으로 잠가서 여러 서버 중 한 서버만 실행한다.
+@Service
+public class TrendRankService {
+
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private static final String REBUILD_LOCK_NAME = "trend-rank-rebuild";
+    private static final Duration REBUILD_LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration REBUILD_KEEP_LOCKED_FOR = Duration.ofMinutes(10);
+
+    private final BoardRepository boardRepository;
+    private final TrendRankRepository trendRankRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<UUID> changedBoardUUIDs = ConcurrentHashMap.newKeySet();
+
+    public TrendRankService(BoardRepository boardRepository,
+            TrendRankRepository trendRankRepository, SchedulerLockService schedulerLockService,
+            PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.trendRankRepository = trendRankRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 커밋 전에 반영하면 바뀌기 전 값을 읽을 수 있으므로, 트랜잭션이 커밋된 뒤에 등록한다.
+    public void markChanged(UUID boardUUID) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            changedBoardUUIDs.add(boardUUID);
+                        }
+                    });
+        } else {
+            changedBoardUUIDs.add(boardUUID);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trend.rank.refresh-interval-millis}")
+    public void refreshChangedBoards() {
+        List<UUID> boardUUIDs = new ArrayList<>();
+        Iterator<UUID> iterator = changedBoardUUIDs.iterator();
+        while (iterator.hasNext()) {
+            boardUUIDs.add(iterator.next());
+            iterator.remove();
+        }
+
+        if (boardUUIDs.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> refresh(boardUUIDs));
+        } catch (Exception e) {
+            Sentry.captureException(e);
+
+            // 반영에 실패한 보드는 버리지 않고 다음 주기에 다시 시도한다.
+            changedBoardUUIDs.addAll(boardUUIDs);
+        }
+    }
+
+    @Scheduled(cron = "${trend.rank.rebuild-cron}")
+    public void rebuildScheduled() {
+        if (!schedulerLockService.tryLock(REBUILD_LOCK_NAME, REBUILD_LOCK_AT_MOST_FOR)) {
+            return;
+        }
+
+        try {
+            rebuildAll();
+        } finally {
+            schedulerLockService.unlock(REBUILD_LOCK_NAME, REBUILD_KEEP_LOCKED_FOR);
+        }
+    }
+
+    // 시작할 때는 trend_rank 가 비어 있을 때(처음 배포한 직후)만 채운다.
+    // 그 외에는 변경된 보드 반영과 매일 재구성으로 충분하므로, 서버를 띄울 때마다 다시 만들지 않는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!schedulerLockService.tryLock(REBUILD_LOCK_NAME, REBUILD_LOCK_AT_MOST_FOR)) {
+            return;
+        }
+
+        try {
+            if (trendRankRepository.findFirstBy().isEmpty()) {
+                rebuildAll();
+            }
+        } finally {
+            schedulerLockService.unlock(REBUILD_LOCK_NAME, Duration.ZERO);
+        }
+    }
+
+    public void rebuildAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            trendRankRepository.deleteAllRows();
+            trendRankRepository.insertFromAllBoards();
+        });
+    }
+
+    private void refresh(List<UUID> boardUUIDs) {
+        for (int from = 0; from < boardUUIDs.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> boardIds = boardRepository.findIdsByUuidIn(boardUUIDs.subList(from,
+                    Math.min(from + REFRESH_CHUNK_SIZE, boardUUIDs.size())));
+
+            if (!boardIds.isEmpty()) {
+                trendRankRepository.deleteByBoardIds(boardIds);
+                trendRankRepository.insertFromBoards(boardIds);
+            }
+        }
+    }
+}
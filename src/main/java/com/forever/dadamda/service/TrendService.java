@@ -1,23 +1,25 @@
 package com.forever.dadamda.service;
 
+import com.forever.dadamda.dto.CursorResponse;
 import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.dto.board.GetBoardSuggestionResponse;
 import com.forever.dadamda.dto.trend.GetPopularUsersResponse;
 import com.forever.dadamda.dto.trend.GetTrendBoardResponse;
-import com.forever.dadamda.entity.board.Board;
+import com.forever.dadamda.dto.trend.TrendBoardCursor;
 import com.forever.dadamda.entity.heart.Heart;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.board.BoardRepository;
 import com.forever.dadamda.repository.HeartRepository;
+import com.forever.dadamda.repository.trend.TrendRankRepository;
 import com.forever.dadamda.service.user.UserService;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,35 +31,42 @@ public class TrendService {
     private final UserService userService;
     private final HeartRepository heartRepository;
     private final BoardRepository boardRepository;
+    private final BoardViewCounter boardViewCounter;
+    private final TrendRankRepository trendRankRepository;
+    private final TrendRankService trendRankService;
+    private final PopularUsersLeaderboard popularUsersLeaderboard;
+    private final BoardTitleSuggester boardTitleSuggester;
 
     @Transactional
     public Boolean updateHearts(String email, UUID boardUUID) {
         User user = userService.validateUser(email);
 
-        Board board = boardRepository.findByUuidAndDeletedDateIsNullAndIsPublicIsTrue(boardUUID)
+        Long boardId = boardRepository.findPublicBoardIdByUuid(boardUUID)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
 
-        Optional<Heart> heart = heartRepository.findByUserAndBoardAndDeletedDateIsNull(user, board);
-
-        if (heart.isPresent()) { // 하트 취소
-            if (board.getHeartCnt() > 0) {
-                board.updateHeartCnt(board.getHeartCnt() - 1);
-            } else {
+        // 보드를 읽어서 고쳐 쓰지 않고, 하트 행과 heart_cnt 를 원자적인 UPDATE 로 바꾼다.
+        if (heartRepository.cancelHeart(user, boardId, LocalDateTime.now()) > 0) { // 하트 취소
+            if (boardRepository.decreaseHeartCnt(boardId) == 0) {
                 throw new InvalidException(ErrorCode.INVALID);
             }
-
-            heart.get().updateDeletedDate(LocalDateTime.now());
+            trendRankService.markChanged(boardUUID);
             return false;
-        } else { // 하트 추가
-            board.updateHeartCnt(board.getHeartCnt() + 1);
-
-            Heart newheart = Heart.builder()
-                    .user(user)
-                    .board(board)
-                    .build();
+        }
 
-            heartRepository.save(newheart);
+        // 하트 추가 (취소했던 하트가 있으면 되살리고, 없으면 새로 만든다)
+        if (heartRepository.reviveHeart(user, boardId) == 0) {
+            try {
+                heartRepository.saveAndFlush(Heart.builder()
+                        .user(user)
+                        .board(boardRepository.getReferenceById(boardId))
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 같은 사용자의 동시 요청이 먼저 하트를 추가한 경우 (user_id, board_id 유니크 제약)
+                throw new InvalidException(ErrorCode.INVALID_CONCURRENT_HEART);
+            }
         }
+        boardRepository.increaseHeartCnt(boardId);
+        trendRankService.markChanged(boardUUID);
 
         return true;
     }
@@ -66,28 +75,23 @@ public class TrendService {
     public Slice<GetTrendBoardResponse> getTrendBoardList(LocalDateTime trendStartDateTime,
             LocalDateTime trendEndDateTime, Pageable pageable, String tag) {
 
-        return boardRepository.getTrendBoardListOrderByHeartCnt(trendStartDateTime,
-                        trendEndDateTime, pageable, tag)
-                .map(GetTrendBoardResponse::of);
+        return trendRankRepository.getTrendBoardListOrderByRank(trendStartDateTime,
+                trendEndDateTime, pageable, tag);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public void updateViewCnt(UUID boardUUID) {
-        Board board = boardRepository.findByUuidAndDeletedDateIsNull(boardUUID)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_BOARD));
+        if (!boardRepository.existsByUuidAndDeletedDateIsNull(boardUUID)) {
+            throw new NotFoundException(ErrorCode.NOT_EXISTS_BOARD);
+        }
 
-        board.addViewCnt();
+        boardViewCounter.increment(boardUUID);
     }
 
-    @Transactional(readOnly = true)
     public List<GetPopularUsersResponse> getPopularUsers(LocalDateTime trendStartDateTime,
             LocalDateTime trendEndDateTime, Long limit) {
 
-        return boardRepository.getPopularUsersByHeartTotalCnt(trendStartDateTime, trendEndDateTime,
-                        limit)
-                .stream()
-                .map(user -> GetPopularUsersResponse.of(user.getProfileUrl(), user.getNickname()))
-                .collect(Collectors.toList());
+        return popularUsersLeaderboard.getPopularUsers(trendStartDateTime, trendEndDateTime, limit);
     }
 
     @Transactional(readOnly = true)
@@ -95,8 +99,7 @@ public class TrendService {
 
         User user = userService.validateUser(email);
 
-        return boardRepository.getMyTrendBoardsListOrderByHeartCnt(user, tag, pageable)
-                .map(GetTrendBoardResponse::of);
+        return boardRepository.getMyTrendBoardsListOrderByHeartCnt(user, tag, pageable);
     }
     
     @Transactional(readOnly = true)
@@ -104,7 +107,39 @@ public class TrendService {
             LocalDateTime trendEndDateTime, String keyword, Pageable pageable) {
 
         return boardRepository.searchKeywordInTrendBoardList(trendStartDateTime, trendEndDateTime,
-                        keyword, pageable)
-                .map(GetTrendBoardResponse::of);
+                keyword, pageable);
+    }
+
+    public List<GetBoardSuggestionResponse> suggestTrendBoards(String keyword, int size) {
+        return boardTitleSuggester.suggestTrendBoards(keyword, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<GetTrendBoardResponse> getTrendBoardListByCursor(
+            LocalDateTime trendStartDateTime, LocalDateTime trendEndDateTime, String tag,
+            String cursor, int size) {
+
+        return toCursorResponse(boardRepository.getTrendBoardListByCursor(trendStartDateTime,
+                trendEndDateTime, tag, TrendBoardCursor.decode(cursor), size));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<GetTrendBoardResponse> searchTrendBoardsByCursor(
+            LocalDateTime trendStartDateTime, LocalDateTime trendEndDateTime, String keyword,
+            String cursor, int size) {
+
+        return toCursorResponse(boardRepository.searchKeywordInTrendBoardListByCursor(
+                trendStartDateTime, trendEndDateTime, keyword, TrendBoardCursor.decode(cursor),
+                size));
+    }
+
+    private CursorResponse<GetTrendBoardResponse> toCursorResponse(
+            Slice<GetTrendBoardResponse> boardSlice) {
+        String nextCursor = boardSlice.hasContent()
+                ? TrendBoardCursor.from(boardSlice.getContent().get(boardSlice.getNumberOfElements() - 1))
+                .encode()
+                : null;
+
+        return CursorResponse.of(boardSlice, nextCursor);
     }
 }
@@ -0,0 +1,75 @@
+package com.forever.dadamda.service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class UrlService {
+
+    private static final Set<String> TRACKING_PARAMETERS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "yclid", "igshid", "mc_cid", "mc_eid", "_ga");
+
+    // 같은 페이지를 가리키는 URL이 같은 값이 되도록 정규화한다.
+    // (scheme/host 소문자, 기본 포트와 fragment 제거, 추적용 쿼리 파라미터 제거)
+    public static String canonicalize(String pageUrl) {
+        if (pageUrl == null) {
+            return null;
+        }
+
+        try {
+            URI uri = new URI(pageUrl.trim());
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return pageUrl.trim();
+            }
+
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            int port = isDefaultPort(scheme, uri.getPort()) ? -1 : uri.getPort();
+            String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/"
+                    : uri.getRawPath();
+
+            StringBuilder canonicalUrl = new StringBuilder()
+                    .append(scheme).append("://").append(host);
+            if (port != -1) {
+                canonicalUrl.append(':').append(port);
+            }
+            canonicalUrl.append(path);
+
+            String query = removeTrackingParameters(uri.getRawQuery());
+            if (!query.isEmpty()) {
+                canonicalUrl.append('?').append(query);
+            }
+
+            return canonicalUrl.toString();
+        } catch (URISyntaxException e) {
+            return pageUrl.trim();
+        }
+    }
+
+    private static boolean isDefaultPort(String scheme, int port) {
+        return port == -1 || (scheme.equals("http") && port == 80)
+                || (scheme.equals("https") && port == 443);
+    }
+
+    private static String removeTrackingParameters(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        List<String> parameters = Arrays.stream(rawQuery.split("&"))
+                .filter(parameter -> !parameter.isEmpty())
+                .filter(parameter -> !isTrackingParameter(parameter.split("=", 2)[0]))
+                .collect(Collectors.toList());
+
+        return String.join("&", parameters);
+    }
+
+    private static boolean isTrackingParameter(String name) {
+        String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        return lowerCaseName.startsWith("utm_") || TRACKING_PARAMETERS.contains(lowerCaseName);
+    }
+}
@@ -2,28 +2,35 @@ package com.forever.dadamda.service;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.dto.webClient.WebClientResponse;
 import io.sentry.Sentry;
 import java.util.HashMap;
 import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.http.HttpStatus;
 
 @Service
+@RequiredArgsConstructor
 public class WebClientService {
 
-    @Transactional
+    // ObjectReader는 불변이라 스레드 간에 공유해도 안전하다.
+    private static final ObjectReader BODY_READER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readerFor(WebClientBodyResponse.class);
+
+    private final WebClient crawlingWebClient;
+
     public WebClientBodyResponse crawlingItem(String crawlingApiEndPoint, String pageUrl) {
         Map<String, Object> bodyMap = new HashMap<>();
         bodyMap.put("url", pageUrl);
 
-        WebClient webClient = WebClient.builder().baseUrl(crawlingApiEndPoint).build();
-
         try {
-            WebClientResponse webClientResponse = webClient.post()
+            WebClientResponse webClientResponse = crawlingWebClient.post()
+                    .uri(crawlingApiEndPoint)
                     .bodyValue(bodyMap)
                     .retrieve()
                     .onStatus(HttpStatus::is4xxClientError, clientResponse -> {
@@ -41,12 +48,8 @@ public class WebClientService {
                     .bodyToMono(WebClientResponse.class)
                     .block();
 
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-            return objectMapper.readValue(
-                    webClientResponse != null ? webClientResponse.getBody() : null,
-                    WebClientBodyResponse.class);
+            return BODY_READER.readValue(
+                    webClientResponse != null ? webClientResponse.getBody() : null);
 
 
         } catch (Exception e) {
@@ -7,7 +7,6 @@ import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.article.ArticleRepository;
 import com.forever.dadamda.service.TimeService;
 import com.forever.dadamda.service.user.UserService;
@@ -25,12 +24,16 @@ public class ArticleService {
 
     private final ArticleRepository articleRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapMemoLoader scrapMemoLoader;
+    private final ScrapSearchService scrapSearchService;
 
     @Transactional
     public Article saveArticle(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return articleRepository.save(createArticle(crawlingResponse, user, pageUrl));
+    }
 
-        Article article = Article.builder().user(user).pageUrl(pageUrl)
+    public Article createArticle(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Article.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .description(crawlingResponse.getDescription())
@@ -39,8 +42,6 @@ public class ArticleService {
                 .blogName(crawlingResponse.getBlogName())
                 .publishedDate(TimeService.fromUnixTime(crawlingResponse.getPublishedDate()))
                 .siteName(crawlingResponse.getSiteName()).build();
-
-        return articleRepository.save(article);
     }
 
     @Transactional
@@ -72,8 +73,7 @@ public class ArticleService {
         Slice<Article> articleSlice = articleRepository.findAllByUserAndDeletedDateIsNull(user,
                 pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
 
-        return articleSlice.map(article -> GetArticleResponse.of(article,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(article)));
+        return scrapMemoLoader.mapWithMemos(articleSlice, GetArticleResponse::of);
     }
 
     @Transactional
@@ -81,10 +81,9 @@ public class ArticleService {
             Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Article> articleSlice = articleRepository.searchKeywordInArticleOrderByCreatedDateDesc(
-                user, keyword, pageable);
+        Slice<Article> articleSlice = scrapSearchService.search(user, Article.class, keyword,
+                pageable);
 
-        return articleSlice.map(article -> GetArticleResponse.of(article,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(article)));
+        return scrapMemoLoader.mapWithMemos(articleSlice, GetArticleResponse::of);
     }
 }
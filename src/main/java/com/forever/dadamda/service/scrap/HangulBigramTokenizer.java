@@ -0,0 +1,107 @@
+package com.forever.dadamda.service.scrap;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+// 스크랩 검색 색인용 토크나이저. 글을 두 글자(bigram) 단위 토큰으로 나눈다.
+// 한글은 조사가 붙고 띄어쓰기가 일정하지 않아 단어 단위로는 잘 찾지 못하므로, MySQL ngram 파서처럼
+// 두 글자씩 잘라 색인하고, 검색어의 토큰이 모두 들어 있는 스크랩을 찾는다.
+//  - NFC 로 정규화해 자모가 분리되어 들어온 글(macOS 등)도 완성형 음절로 맞춘다.
+//  - 한글, 숫자, 그 외 글자(영문 등)가 바뀌는 곳에서 끊는다. ("16인치" -> "16", "인치")
+//  - 대소문자를 구분하지 않는다.
+// 토큰은 두 글자(char)를 int 하나로 묶어 표현한다.
+final class HangulBigramTokenizer {
+
+    private static final int[] EMPTY = new int[0];
+
+    private static final int NONE = 0;
+    private static final int HANGUL = 1;
+    private static final int DIGIT = 2;
+    private static final int LETTER = 3;
+
+    private HangulBigramTokenizer() {
+    }
+
+    // 중복을 제거하고 오름차순으로 정렬한 토큰
+    static int[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+
+        String normalized = normalize(text);
+        int[] tokens = new int[Math.max(normalized.length() - 1, 0)];
+        int count = 0;
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            int charClass = charClass(first);
+            if (charClass != NONE && charClass == charClass(second)) {
+                tokens[count++] = first << 16 | second;
+            }
+        }
+
+        return distinct(tokens, count);
+    }
+
+    // 한 글자짜리 구간("Hello 4" 의 "4")은 bigram 이 없어 색인으로 찾을 수 없다.
+    // 검색어의 모든 구간이 두 글자 이상일 때만 색인으로 검색한다.
+    static boolean isSearchable(String keyword) {
+        if (keyword == null) {
+            return false;
+        }
+
+        String normalized = normalize(keyword);
+        int runCount = 0;
+        int runLength = 0;
+        int previousClass = NONE;
+        for (int i = 0; i < normalized.length(); i++) {
+            int charClass = charClass(normalized.charAt(i));
+            if (charClass != NONE && charClass == previousClass) {
+                runLength++;
+            } else {
+                if (runLength == 1) {
+                    return false;
+                }
+                runLength = charClass == NONE ? 0 : 1;
+                runCount += runLength;
+            }
+            previousClass = charClass;
+        }
+
+        return runCount > 0 && runLength != 1;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static int charClass(char c) {
+        if (Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL) {
+            return HANGUL;
+        }
+        if (Character.isDigit(c)) {
+            return DIGIT;
+        }
+        if (Character.isLetter(c)) {
+            return LETTER;
+        }
+        return NONE;
+    }
+
+    private static int[] distinct(int[] tokens, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        Arrays.sort(tokens, 0, count);
+        int distinctCount = 1;
+        for (int i = 1; i < count; i++) {
+            if (tokens[i] != tokens[distinctCount - 1]) {
+                tokens[distinctCount++] = tokens[i];
+            }
+        }
+
+        return Arrays.copyOf(tokens, distinctCount);
+    }
+}
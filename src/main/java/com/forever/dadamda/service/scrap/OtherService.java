@@ -7,7 +7,6 @@ import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Other;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.other.OtherRepository;
 import com.forever.dadamda.service.user.UserService;
 import lombok.RequiredArgsConstructor;
@@ -24,18 +23,20 @@ public class OtherService {
 
     private final OtherRepository otherRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapMemoLoader scrapMemoLoader;
+    private final ScrapSearchService scrapSearchService;
 
     @Transactional
     public Other saveOther(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return otherRepository.save(createOther(crawlingResponse, user, pageUrl));
+    }
 
-        Other other = Other.builder().user(user).pageUrl(pageUrl)
+    public Other createOther(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Other.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .description(crawlingResponse.getDescription())
                 .build();
-
-        return otherRepository.save(other);
     }
 
     @Transactional
@@ -64,18 +65,16 @@ public class OtherService {
         Slice<Other> otherSlice = otherRepository.findAllByUserAndDeletedDateIsNull(user,
                 pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
 
-        return otherSlice.map(other -> GetOtherResponse.of(other,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(other)));
+        return scrapMemoLoader.mapWithMemos(otherSlice, GetOtherResponse::of);
     }
 
     @Transactional
     public Slice<GetOtherResponse> searchOthers(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Other> otherSlice = otherRepository.searchKeywordInOtherOrderByCreatedDateDesc(user,
-                keyword, pageable);
+        Slice<Other> otherSlice = scrapSearchService.search(user, Other.class, keyword,
+                pageable);
 
-        return otherSlice.map(other -> GetOtherResponse.of(other,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(other)));
+        return scrapMemoLoader.mapWithMemos(otherSlice, GetOtherResponse::of);
     }
 }
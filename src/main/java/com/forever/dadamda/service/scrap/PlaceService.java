@@ -6,7 +6,6 @@ import com.forever.dadamda.dto.scrap.place.GetPlaceResponse;
 import com.forever.dadamda.entity.scrap.Place;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.place.PlaceRepository;
 import com.forever.dadamda.service.user.UserService;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +22,7 @@ public class PlaceService {
 
     private final PlaceRepository placeRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapMemoLoader scrapMemoLoader;
 
     @Transactional
     public Slice<GetPlaceResponse> getPlaces(String email, Pageable pageable) {
@@ -33,16 +32,19 @@ public class PlaceService {
         PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
                 sort);
 
-        return placeRepository.findAllByUserAndDeletedDateIsNull(user, pageRequest)
-                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP))
-                .map(place -> GetPlaceResponse.of(place,
-                        memoRepository.findMemosByScrapAndDeletedDateIsNull(place)));
+        Slice<Place> placeSlice = placeRepository.findAllByUserAndDeletedDateIsNull(user,
+                pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
+
+        return scrapMemoLoader.mapWithMemos(placeSlice, GetPlaceResponse::of);
     }
 
     @Transactional
     public Place savePlace(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return placeRepository.save(createPlace(crawlingResponse, user, pageUrl));
+    }
 
-        Place place = Place.builder()
+    public Place createPlace(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Place.builder()
                 .user(user).pageUrl(crawlingResponse.getPageUrl())
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
@@ -56,7 +58,5 @@ public class PlaceService {
                 .category(crawlingResponse.getCategory())
                 .siteName(crawlingResponse.getSiteName())
                 .build();
-
-        return placeRepository.save(place);
     }
 }
@@ -7,7 +7,6 @@ import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Product;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.product.ProductRepository;
 import com.forever.dadamda.service.user.UserService;
 import lombok.RequiredArgsConstructor;
@@ -24,18 +23,20 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapMemoLoader scrapMemoLoader;
+    private final ScrapSearchService scrapSearchService;
 
     @Transactional
     public Product saveProduct(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return productRepository.save(createProduct(crawlingResponse, user, pageUrl));
+    }
 
-        Product product = Product.builder().user(user).pageUrl(pageUrl)
+    public Product createProduct(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Product.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .price(crawlingResponse.getPrice())
                 .siteName(crawlingResponse.getSiteName()).build();
-
-        return productRepository.save(product);
     }
 
     @Transactional
@@ -65,8 +66,7 @@ public class ProductService {
         Slice<Product> prdouctSlice = productRepository.findAllByUserAndDeletedDateIsNull(user,
                 pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
 
-        return prdouctSlice.map(product -> GetProductResponse.of(product,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(product)));
+        return scrapMemoLoader.mapWithMemos(prdouctSlice, GetProductResponse::of);
     }
 
     @Transactional
@@ -74,10 +74,9 @@ public class ProductService {
             Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Product> prdouctSlice = productRepository.searchKeywordInProductOrderByCreatedDateDesc(
-                user, keyword, pageable);
+        Slice<Product> prdouctSlice = scrapSearchService.search(user, Product.class, keyword,
+                pageable);
 
-        return prdouctSlice.map(product -> GetProductResponse.of(product,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(product)));
+        return scrapMemoLoader.mapWithMemos(prdouctSlice, GetProductResponse::of);
     }
 }
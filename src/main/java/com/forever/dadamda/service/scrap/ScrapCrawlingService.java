@@ -0,0 +1,100 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.ScrapStatus;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.CrawlingService;
+import io.sentry.Sentry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 대기(PENDING) 상태로 저장된 스크랩을 크롤링 스레드 풀에서 크롤링하고 결과를 채운다.
+// 스레드 풀이 가득 차면 요청 스레드에서 크롤링하지 않고 대기 상태로 남겨두며,
+// 주기적으로 오래 대기 중인 스크랩을 다시 크롤링한다. (여러 서버가 같은 스크랩을 다시 크롤링해도
+// 같은 결과로 덮어쓰므로 문제없다)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScrapCrawlingService {
+
+    private final CrawlingService crawlingService;
+    private final ScrapService scrapService;
+    private final ScrapRepository scrapRepository;
+    private final Executor crawlingExecutor;
+
+    // 이 서버의 크롤링 큐에 들어 있거나 크롤링 중인 스크랩 (다시 크롤링할 때 중복으로 넣지 않는다)
+    private final Set<Long> queuedScrapIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${crawling.pending-retry.min-age-seconds}")
+    private long pendingRetryMinAgeSeconds;
+
+    @Value("${crawling.pending-retry.batch-size}")
+    private int pendingRetryBatchSize;
+
+    // 스크랩 저장 트랜잭션이 커밋된 뒤, 크롤링 스레드 풀에 넣는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void crawlScrap(ScrapCreatedEvent event) {
+        submit(event.getScrapId(), event.getPageUrl());
+    }
+
+    @Scheduled(fixedDelayString = "${crawling.pending-retry.fixed-delay-millis}")
+    public void retryPendingScraps() {
+        retryPendingScraps(LocalDateTime.now().minusSeconds(pendingRetryMinAgeSeconds));
+    }
+
+    // modifiedBefore 이전부터 대기 중인 스크랩을 스레드 풀이 받아주는 만큼 다시 크롤링한다.
+    void retryPendingScraps(LocalDateTime modifiedBefore) {
+        List<Scrap> pendingScraps = scrapRepository
+                .findByStatusAndDeletedDateIsNullAndModifiedDateBeforeOrderByModifiedDate(
+                        ScrapStatus.PENDING, modifiedBefore,
+                        PageRequest.of(0, pendingRetryBatchSize));
+
+        for (Scrap scrap : pendingScraps) {
+            if (!submit(scrap.getId(), scrap.getPageUrl())) {
+                return;
+            }
+        }
+    }
+
+    // 스레드 풀이 가득 차서 거절되면 false
+    private boolean submit(Long scrapId, String pageUrl) {
+        if (!queuedScrapIds.add(scrapId)) {
+            return true;
+        }
+
+        try {
+            crawlingExecutor.execute(() -> crawl(scrapId, pageUrl));
+            return true;
+        } catch (TaskRejectedException e) {
+            queuedScrapIds.remove(scrapId);
+            log.warn("크롤링 스레드 풀이 가득 차서 대기 상태로 남김: scrapId={}", scrapId);
+            return false;
+        }
+    }
+
+    private void crawl(Long scrapId, String pageUrl) {
+        try {
+            WebClientBodyResponse crawlingResponse = crawlingService.crawl(pageUrl);
+
+            scrapService.completeScrap(scrapId, crawlingResponse);
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            scrapService.failScrap(scrapId);
+        } finally {
+            queuedScrapIds.remove(scrapId);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.forever.dadamda.service.scrap;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ScrapCreatedEvent {
+
+    private final Long scrapId;
+    private final String pageUrl;
+}
@@ -0,0 +1,33 @@
+package com.forever.dadamda.service.scrap;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+// 스크랩 일괄 가져오기 진행 상황 (작업 스레드가 갱신하고, 조회 API가 읽는다)
+@Getter
+public class ScrapImportJob {
+
+    public enum Status {
+        WAITING, RUNNING, COMPLETED, FAILED
+    }
+
+    private final UUID jobId;
+    private final Long userId;
+    private final int totalCount;
+    private final AtomicInteger duplicatedCount = new AtomicInteger();
+    private final AtomicInteger invalidCount = new AtomicInteger();
+    private final AtomicInteger importedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private volatile Status status = Status.WAITING;
+
+    public ScrapImportJob(UUID jobId, Long userId, int totalCount) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.totalCount = totalCount;
+    }
+
+    public void updateStatus(Status status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,236 @@
+package com.forever.dadamda.service.scrap;
+
+import static com.forever.dadamda.service.UUIDService.generateUUID;
+
+import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.exception.InvalidException;
+import com.forever.dadamda.exception.NotFoundException;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.CrawlingService;
+import com.forever.dadamda.service.user.UserService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.sentry.Sentry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+@RequiredArgsConstructor
+public class ScrapImportService {
+
+    // Netscape 북마크 파일(<DT><A HREF="...">)에서 URL을 꺼낸다.
+    private static final Pattern BOOKMARK_HREF_PATTERN = Pattern.compile(
+            "<a\\s[^>]*?href\\s*=\\s*\"([^\"]+)\"", Pattern.CASE_INSENSITIVE);
+
+    private static final int IN_QUERY_SIZE = 1000;
+
+    private final UserService userService;
+    private final ScrapService scrapService;
+    private final ScrapRepository scrapRepository;
+    private final CrawlingService crawlingService;
+    private final Executor crawlingExecutor;
+    private final Executor importExecutor;
+
+    // 끝난 작업도 하루 동안은 진행 상황을 조회할 수 있게 남겨둔다.
+    private final Cache<UUID, ScrapImportJob> importJobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    @Value("${scrap.import.max-urls}")
+    private int maxUrls;
+
+    @Value("${scrap.import.chunk-size}")
+    private int chunkSize;
+
+    public UUID startImport(String email, List<String> pageUrls) {
+        User user = userService.validateUser(email);
+
+        List<String> distinctPageUrls = pageUrls.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(pageUrl -> !pageUrl.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (distinctPageUrls.size() > maxUrls) {
+            throw new InvalidException(ErrorCode.INVALID_TOO_MANY_IMPORT_URLS);
+        }
+
+        ScrapImportJob job = new ScrapImportJob(generateUUID(), user.getId(),
+                distinctPageUrls.size());
+        importJobs.put(job.getJobId(), job);
+
+        try {
+            importExecutor.execute(() -> runImport(job, user, distinctPageUrls));
+        } catch (TaskRejectedException e) {
+            importJobs.invalidate(job.getJobId());
+            throw new InvalidException(ErrorCode.INVALID_TOO_MANY_IMPORT_JOBS);
+        }
+
+        return job.getJobId();
+    }
+
+    public UUID startImportFromBookmarkFile(String email, MultipartFile file) {
+        String html;
+        try {
+            html = new String(file.getBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new InvalidException(ErrorCode.INVALID_BOOKMARK_FILE);
+        }
+
+        List<String> pageUrls = parseBookmarkUrls(html);
+        if (pageUrls.isEmpty()) {
+            throw new InvalidException(ErrorCode.INVALID_BOOKMARK_FILE);
+        }
+
+        return startImport(email, pageUrls);
+    }
+
+    public ScrapImportJob getImportJob(String email, UUID jobId) {
+        User user = userService.validateUser(email);
+
+        ScrapImportJob job = importJobs.getIfPresent(jobId);
+        if (job == null || !job.getUserId().equals(user.getId())) {
+            throw new NotFoundException(ErrorCode.NOT_EXISTS_IMPORT_JOB);
+        }
+
+        return job;
+    }
+
+    public static List<String> parseBookmarkUrls(String html) {
+        List<String> pageUrls = new ArrayList<>();
+        Matcher matcher = BOOKMARK_HREF_PATTERN.matcher(html);
+        while (matcher.find()) {
+            pageUrls.add(matcher.group(1).replace("&amp;", "&"));
+        }
+        return pageUrls;
+    }
+
+    private void runImport(ScrapImportJob job, User user, List<String> pageUrls) {
+        job.updateStatus(ScrapImportJob.Status.RUNNING);
+
+        try {
+            List<String> validPageUrls = pageUrls.stream()
+                    .filter(this::isValidPageUrl)
+                    .collect(Collectors.toList());
+            job.getInvalidCount().addAndGet(pageUrls.size() - validPageUrls.size());
+
+            //1. 이미 저장된 URL은 IN 쿼리로 한 번에 걸러낸다.
+            Set<String> existingPageUrls = findExistingPageUrls(user, validPageUrls);
+            List<String> newPageUrls = validPageUrls.stream()
+                    .filter(pageUrl -> !existingPageUrls.contains(pageUrl))
+                    .collect(Collectors.toList());
+            job.getDuplicatedCount().addAndGet(validPageUrls.size() - newPageUrls.size());
+
+            //2. chunkSize개씩 동시에 크롤링하고, 묶음 단위로 배치 insert 한다.
+            for (int from = 0; from < newPageUrls.size(); from += chunkSize) {
+                importChunk(job, user,
+                        newPageUrls.subList(from, Math.min(from + chunkSize, newPageUrls.size())));
+            }
+
+            job.updateStatus(ScrapImportJob.Status.COMPLETED);
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            job.updateStatus(ScrapImportJob.Status.FAILED);
+        }
+    }
+
+    private void importChunk(ScrapImportJob job, User user, List<String> pageUrls) {
+        List<CompletableFuture<WebClientBodyResponse>> crawls = pageUrls.stream()
+                .map(this::crawlAsync)
+                .collect(Collectors.toList());
+
+        // 크롤링에 실패한 URL(예외 또는 빈 결과)은 저장하지 않고 실패로 센다.
+        // 저장하지 않았으므로 같은 URL을 다시 가져오면 그때 다시 크롤링한다.
+        Map<String, WebClientBodyResponse> crawlingResponses = new LinkedHashMap<>();
+        for (int i = 0; i < pageUrls.size(); i++) {
+            WebClientBodyResponse crawlingResponse = joinCrawl(crawls.get(i));
+            if (crawlingResponse == null) {
+                job.getFailedCount().incrementAndGet();
+                continue;
+            }
+            crawlingResponses.put(pageUrls.get(i), crawlingResponse);
+        }
+
+        if (crawlingResponses.isEmpty()) {
+            return;
+        }
+
+        try {
+            int savedCount = scrapService.saveCrawledScraps(user, crawlingResponses);
+            job.getImportedCount().addAndGet(savedCount);
+            job.getDuplicatedCount().addAndGet(crawlingResponses.size() - savedCount);
+        } catch (Exception e) {
+            Sentry.captureException(e);
+            job.getFailedCount().addAndGet(crawlingResponses.size());
+        }
+    }
+
+    // 크롤링 스레드 풀이 가득 차면 가져오기 스레드에서 직접 크롤링해서 가져오기 속도를 늦춘다.
+    private CompletableFuture<WebClientBodyResponse> crawlAsync(String pageUrl) {
+        try {
+            return CompletableFuture.supplyAsync(() -> crawlingService.crawl(pageUrl),
+                    crawlingExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.supplyAsync(() -> crawlingService.crawl(pageUrl),
+                    Runnable::run);
+        }
+    }
+
+    private WebClientBodyResponse joinCrawl(CompletableFuture<WebClientBodyResponse> crawl) {
+        try {
+            return crawl.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private Set<String> findExistingPageUrls(User user, List<String> pageUrls) {
+        Set<String> existingPageUrls = new HashSet<>();
+        for (int from = 0; from < pageUrls.size(); from += IN_QUERY_SIZE) {
+            existingPageUrls.addAll(scrapRepository.findPageUrlsByUserAndPageUrlIn(user,
+                    pageUrls.subList(from, Math.min(from + IN_QUERY_SIZE, pageUrls.size()))));
+        }
+        return existingPageUrls;
+    }
+
+    private boolean isValidPageUrl(String pageUrl) {
+        if (pageUrl.length() > 2083) {
+            return false;
+        }
+
+        try {
+            URI uri = new URI(pageUrl);
+            return uri.getHost() != null
+                    && ("http".equalsIgnoreCase(uri.getScheme())
+                    || "https".equalsIgnoreCase(uri.getScheme()));
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+}
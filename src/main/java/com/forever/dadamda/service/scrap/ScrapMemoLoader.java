@@ -0,0 +1,38 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.entity.Memo;
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.repository.MemoRepository;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+// 목록 조회 시 스크랩마다 메모를 따로 조회하지 않고, 한 페이지의 메모를 IN 쿼리 한 번으로 가져온다.
+@Service
+@RequiredArgsConstructor
+public class ScrapMemoLoader {
+
+    private final MemoRepository memoRepository;
+
+    public <T extends Scrap, R> Slice<R> mapWithMemos(Slice<T> scrapSlice,
+            BiFunction<T, List<Memo>, R> mapper) {
+        Map<Long, List<Memo>> memosByScrapId = findMemosByScrapId(scrapSlice.getContent());
+
+        return scrapSlice.map(scrap -> mapper.apply(scrap,
+                memosByScrapId.getOrDefault(scrap.getId(), Collections.emptyList())));
+    }
+
+    private Map<Long, List<Memo>> findMemosByScrapId(List<? extends Scrap> scraps) {
+        if (scraps.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return memoRepository.findMemosByScrapInAndDeletedDateIsNull(scraps).stream()
+                .collect(Collectors.groupingBy(memo -> memo.getScrap().getId()));
+    }
+}
@@ -0,0 +1,387 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.service.ExpireAfterCreate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 사용자별 스크랩 검색 색인 (제목, 설명, 사이트 이름, 메모).
+// 첫 검색 때 사용자의 스크랩을 읽어 bigram 역색인을 만들고, 이후에는 스크랩/메모가 바뀔 때
+// 커밋 이후 해당 스크랩만 다시 색인한다. 다른 서버에서 바뀐 스크랩은 이 서버의 색인에 반영되지 않으므로,
+// 색인은 만든 지 일정 시간이 지나면 (그 사이 다시 색인해도) 버리고 다음 검색 때 다시 만든다.
+// 캐시는 사용자 수가 아니라 색인 크기(byte)의 합으로 제한한다.
+@Slf4j
+@Service
+public class ScrapSearchIndex {
+
+    private static final String SCRAP_QUERY = "SELECT s.scrap_id, s.d_type, s.created_date, s.title,"
+            + " s.description, s.site_name FROM scrap s WHERE %s AND s.deleted_date IS NULL ORDER BY s.scrap_id";
+    private static final String MEMO_QUERY = "SELECT m.scrap_id, m.memo_text FROM memo m"
+            + " JOIN scrap s ON s.scrap_id = m.scrap_id"
+            + " WHERE %s AND s.deleted_date IS NULL AND m.deleted_date IS NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache<Long, UserIndex> userIndexes;
+
+    public ScrapSearchIndex(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${search.index.maximum-weight-megabytes}") long maximumWeightMegabytes,
+            @Value("${search.index.expire-after-write-minutes}") long expireAfterWriteMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userIndexes = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(maximumWeightMegabytes * 1024 * 1024)
+                .<Long, UserIndex>weigher((userId, index) -> index.weight())
+                .expireAfter(new ExpireAfterCreate<>(Duration.ofMinutes(expireAfterWriteMinutes)))
+                .recordStats()
+                .<Long, UserIndex>build(), "scrapSearchIndex");
+    }
+
+    // keyword 의 토큰이 모두 들어 있는 스크랩 id 를 관련도 순으로 반환한다. dType 이 null 이면 모든 타입
+    public List<Long> search(Long userId, String dType, String keyword) {
+        return userIndexes.get(userId, this::build)
+                .search(HangulBigramTokenizer.tokenize(keyword), dType);
+    }
+
+    // 스크랩이나 메모가 바뀐 트랜잭션이 커밋되면 그 스크랩을 다시 색인한다.
+    public void reindexAfterCommit(Long userId, Long scrapId) {
+        runAfterCommit(() -> reindex(userId, scrapId));
+    }
+
+    // 한 번에 많은 스크랩이 바뀌면 하나씩 색인하지 않고 색인을 버린다. 다음 검색 때 다시 만든다.
+    public void invalidateAfterCommit(Long userId) {
+        runAfterCommit(() -> userIndexes.invalidate(userId));
+    }
+
+    void reindex(Long userId, Long scrapId) {
+        // 색인을 만드는 중이면 computeIfPresent 가 끝날 때까지 기다리므로 변경이 빠지지 않는다.
+        List<ScrapDocument> documents = loadDocuments("s.scrap_id = :scrapId",
+                new MapSqlParameterSource("scrapId", scrapId));
+
+        userIndexes.asMap().computeIfPresent(userId, (id, index) -> {
+            index.remove(scrapId);
+            documents.forEach(index::add);
+            return index.needsRebuild() ? null : index;
+        });
+    }
+
+    private UserIndex build(Long userId) {
+        List<ScrapDocument> documents = loadDocuments("s.user_id = :userId",
+                new MapSqlParameterSource("userId", userId));
+
+        UserIndex index = new UserIndex();
+        documents.forEach(index::add);
+        log.debug("스크랩 검색 색인 생성: userId={}, scraps={}", userId, documents.size());
+        return index;
+    }
+
+    private List<ScrapDocument> loadDocuments(String condition, MapSqlParameterSource params) {
+        Map<Long, List<String>> memosByScrapId = new HashMap<>();
+        jdbcTemplate.query(String.format(MEMO_QUERY, condition), params, rs -> {
+            memosByScrapId.computeIfAbsent(rs.getLong("scrap_id"), id -> new ArrayList<>())
+                    .add(rs.getString("memo_text"));
+        });
+
+        return jdbcTemplate.query(String.format(SCRAP_QUERY, condition), params,
+                (rs, rowNum) -> {
+                    long scrapId = rs.getLong("scrap_id");
+                    List<String> body = new ArrayList<>();
+                    body.add(rs.getString("description"));
+                    body.add(rs.getString("site_name"));
+                    body.addAll(memosByScrapId.getOrDefault(scrapId, Collections.emptyList()));
+
+                    Timestamp createdDate = rs.getTimestamp("created_date");
+                    return new ScrapDocument(scrapId, rs.getString("d_type"),
+                            createdDate == null ? null : createdDate.toLocalDateTime(),
+                            rs.getString("title"), body.stream().filter(Objects::nonNull)
+                            .collect(Collectors.joining("\n")));
+                });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class ScrapDocument {
+
+        private final long scrapId;
+        private final String dType;
+        private final LocalDateTime createdDate;
+        private final String title;
+        // 설명, 사이트 이름, 메모
+        private final String body;
+    }
+
+    // 한 사용자의 역색인. 스크랩마다 0 부터 늘어나는 int 문서 번호를 붙이고,
+    // 토큰마다 문서 번호를 오름차순 차이값(delta) varint 로 이어 붙인 byte[] 에 저장한다.
+    // 수정/삭제된 스크랩은 문서를 지운 표시만 하고 새 번호로 다시 넣는다.
+    static class UserIndex {
+
+        private static final int TITLE = 1;
+        private static final int BODY = 2;
+        // 지운 문서가 이보다 많고 남은 문서보다 많아지면 색인을 다시 만든다.
+        private static final int REBUILD_MIN_REMOVED = 1000;
+        // 색인 크기를 어림할 때 쓰는 객체 하나의 크기 (객체 헤더, 참조, HashMap 항목)
+        private static final int ENTRY_BYTES = 64;
+        // 문서 하나의 배열 크기 (스크랩 id, 타입, 생성일 참조)
+        private static final int DOC_BYTES = 8 + 1 + 8;
+        private static final Comparator<LocalDateTime> CREATED_DATE_ORDER =
+                Comparator.nullsFirst(Comparator.naturalOrder());
+
+        private final Map<Integer, PostingList> postings = new HashMap<>();
+        private final Map<Long, Integer> docIdByScrapId = new HashMap<>();
+        private final Map<String, Byte> typeCodes = new LinkedHashMap<>();
+        private final BitSet removed = new BitSet();
+        private long[] scrapIds = new long[16];
+        private byte[] docTypes = new byte[16];
+        private LocalDateTime[] createdDates = new LocalDateTime[16];
+        private int docCount;
+        private int removedCount;
+        private long postingBytes;
+
+        synchronized void add(ScrapDocument document) {
+            remove(document.getScrapId());
+
+            int docId = docCount++;
+            if (docId == scrapIds.length) {
+                scrapIds = Arrays.copyOf(scrapIds, docId * 2);
+                docTypes = Arrays.copyOf(docTypes, docId * 2);
+                createdDates = Arrays.copyOf(createdDates, docId * 2);
+            }
+            scrapIds[docId] = document.getScrapId();
+            docTypes[docId] = typeCode(document.getDType());
+            createdDates[docId] = document.getCreatedDate();
+            docIdByScrapId.put(document.getScrapId(), docId);
+
+            int[] titleTokens = HangulBigramTokenizer.tokenize(document.getTitle());
+            int[] bodyTokens = HangulBigramTokenizer.tokenize(document.getBody());
+            int i = 0;
+            int j = 0;
+            while (i < titleTokens.length || j < bodyTokens.length) {
+                if (j == bodyTokens.length
+                        || i < titleTokens.length && titleTokens[i] < bodyTokens[j]) {
+                    addPosting(titleTokens[i++], docId, TITLE);
+                } else if (i == titleTokens.length || bodyTokens[j] < titleTokens[i]) {
+                    addPosting(bodyTokens[j++], docId, BODY);
+                } else {
+                    addPosting(titleTokens[i++], docId, TITLE | BODY);
+                    j++;
+                }
+            }
+        }
+
+        synchronized void remove(long scrapId) {
+            Integer docId = docIdByScrapId.remove(scrapId);
+            if (docId != null) {
+                removed.set(docId);
+                removedCount++;
+            }
+        }
+
+        synchronized boolean needsRebuild() {
+            return removedCount > REBUILD_MIN_REMOVED && removedCount > docCount - removedCount;
+        }
+
+        // 캐시 용량에 쓰는 어림 크기(byte). posting, 문서 배열, 스크랩 id 맵만 센다.
+        synchronized int weight() {
+            long bytes = postingBytes
+                    + (long) scrapIds.length * DOC_BYTES
+                    + (long) docIdByScrapId.size() * ENTRY_BYTES
+                    + removed.size() / 8;
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+
+        // 토큰이 모두 들어 있는 문서를 가장 짧은 posting 부터 교집합으로 좁힌다.
+        // 점수는 토큰마다 제목에 있으면 2, 설명/메모에 있으면 1 을 더하고, 같으면 최근에 만든 스크랩이 먼저다.
+        // (목록 조회와 같이 생성일, 스크랩 id 순)
+        synchronized List<Long> search(int[] tokens, String dType) {
+            if (tokens.length == 0) {
+                return Collections.emptyList();
+            }
+
+            List<PostingList> lists = new ArrayList<>(tokens.length);
+            for (int token : tokens) {
+                PostingList list = postings.get(token);
+                if (list == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            int[] docIds = new int[lists.get(0).size()];
+            int[] scores = new int[docIds.length];
+            int count = lists.get(0).decode(docIds, scores);
+            for (int k = 1; k < lists.size() && count > 0; k++) {
+                count = lists.get(k).intersect(docIds, scores, count);
+            }
+
+            Byte typeCode = dType == null ? null : typeCodes.get(dType);
+            if (dType != null && typeCode == null) {
+                return Collections.emptyList();
+            }
+
+            // docIds, scores 에서의 위치를 점수, 생성일, 스크랩 id 의 내림차순으로 정렬한다.
+            List<Integer> positions = new ArrayList<>(count);
+            for (int k = 0; k < count; k++) {
+                int docId = docIds[k];
+                if (!removed.get(docId) && (typeCode == null || docTypes[docId] == typeCode)) {
+                    positions.add(k);
+                }
+            }
+            positions.sort(Comparator.<Integer>comparingInt(k -> scores[k])
+                    .thenComparing(k -> createdDates[docIds[k]], CREATED_DATE_ORDER)
+                    .thenComparingLong(k -> scrapIds[docIds[k]])
+                    .reversed());
+
+            List<Long> matches = new ArrayList<>(positions.size());
+            for (int k : positions) {
+                matches.add(scrapIds[docIds[k]]);
+            }
+            return matches;
+        }
+
+        private void addPosting(int token, int docId, int fields) {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                list = new PostingList();
+                postings.put(token, list);
+                postingBytes += ENTRY_BYTES + list.capacity();
+            }
+
+            int capacity = list.capacity();
+            list.add(docId, fields);
+            postingBytes += list.capacity() - capacity;
+        }
+
+        private byte typeCode(String dType) {
+            return typeCodes.computeIfAbsent(dType, key -> (byte) typeCodes.size());
+        }
+    }
+
+    // 문서 번호 오름차순 posting. 항목마다 (이전 번호와의 차이 << 2 | 필드 비트)를 varint 로 쓴다.
+    static class PostingList {
+
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int lastDocId = -1;
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int capacity() {
+            return bytes.length;
+        }
+
+        void add(int docId, int fields) {
+            int value = (docId - lastDocId) << 2 | fields;
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+
+            lastDocId = docId;
+            size++;
+        }
+
+        // 모든 문서를 docIds 에, 점수를 scores 에 채우고 개수를 반환한다.
+        int decode(int[] docIds, int[] scores) {
+            int docId = -1;
+            int position = 0;
+            for (int k = 0; k < size; k++) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    value |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+
+                docId += value >>> 2;
+                docIds[k] = docId;
+                scores[k] = score(value & 3);
+            }
+            return size;
+        }
+
+        // docIds[0..count) 중 이 posting 에도 있는 문서만 남기고 점수를 더한다.
+        int intersect(int[] docIds, int[] scores, int count) {
+            int docId = -1;
+            int position = 0;
+            int fields = 0;
+            int read = 0;
+            int kept = 0;
+            for (int k = 0; k < count; k++) {
+                while (read < size && docId < docIds[k]) {
+                    int value = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = bytes[position++];
+                        value |= (b & 0x7F) << shift;
+                        shift += 7;
+                    } while (b < 0);
+
+                    docId += value >>> 2;
+                    fields = value & 3;
+                    read++;
+                }
+                if (docId == docIds[k]) {
+                    docIds[kept] = docId;
+                    scores[kept] = scores[k] + score(fields);
+                    kept++;
+                }
+                if (read == size && docId < docIds[k]) {
+                    break;
+                }
+            }
+            return kept;
+        }
+
+        private static int score(int fields) {
+            return ((fields & UserIndex.TITLE) != 0 ? 2 : 0)
+                    + ((fields & UserIndex.BODY) != 0 ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.forever.dadamda.service.scrap;
+
+import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+// 스크랩 검색 (/v1/scraps/search, 타입별 search).
+// 검색어를 bigram 으로 나눌 수 있으면 사용자별 메모리 색인(ScrapSearchIndex)으로 검색한다.
+// 그 외에는 MySQL 에서는 FULLTEXT 인덱스로 제목, 설명, 메모를 관련도 순으로 검색한다.
+// H2 처럼 MATCH 를 쓸 수 없는 DB 나 ngram 보다 짧은 검색어는 LIKE 로 검색하고 최신순으로 정렬한다.
+@Service
+public class ScrapSearchService {
+
+    private final ScrapRepository scrapRepository;
+    private final ScrapSearchIndex scrapSearchIndex;
+    private final boolean indexEnabled;
+    private final boolean fullTextEnabled;
+    private final int minTokenLength;
+
+    public ScrapSearchService(ScrapRepository scrapRepository, ScrapSearchIndex scrapSearchIndex,
+            @Value("${search.index.enabled}") boolean indexEnabled,
+            @Value("${search.full-text.enabled}") boolean fullTextEnabled,
+            @Value("${search.full-text.min-token-length}") int minTokenLength) {
+        this.scrapRepository = scrapRepository;
+        this.scrapSearchIndex = scrapSearchIndex;
+        this.indexEnabled = indexEnabled;
+        this.fullTextEnabled = fullTextEnabled;
+        this.minTokenLength = minTokenLength;
+    }
+
+    // type 이 Scrap.class 이면 모든 타입을 검색한다.
+    public <T extends Scrap> Slice<T> search(User user, Class<T> type, String keyword,
+            Pageable pageable) {
+        String trimmedKeyword = keyword.trim();
+        String dType = type == Scrap.class ? null : type.getSimpleName();
+        // 검색 결과는 관련도 순(또는 최신순)으로만 정렬한다. 요청의 sort 가 네이티브 쿼리의
+        // ORDER BY 에 붙으면 없는 컬럼으로 실패하므로 페이지 번호와 크기만 넘긴다.
+        Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        Slice<Long> idSlice;
+        if (indexEnabled && HangulBigramTokenizer.isSearchable(trimmedKeyword)) {
+            idSlice = toSlice(scrapSearchIndex.search(user.getId(), dType, trimmedKeyword),
+                    pageRequest);
+        } else if (useFullText(trimmedKeyword)) {
+            idSlice = scrapRepository.searchScrapIdsByFullText(user.getId(), dType,
+                    trimmedKeyword, pageRequest);
+        } else {
+            idSlice = scrapRepository.searchScrapIdsByKeyword(user, type, trimmedKeyword,
+                    pageRequest);
+        }
+
+        return new SliceImpl<>(findAllInOrder(type, idSlice.getContent()), pageRequest,
+                idSlice.hasNext());
+    }
+
+    private Slice<Long> toSlice(List<Long> scrapIds, Pageable pageable) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), scrapIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), scrapIds.size());
+
+        return new SliceImpl<>(scrapIds.subList(fromIndex, toIndex), pageable,
+                toIndex < scrapIds.size());
+    }
+
+    private boolean useFullText(String keyword) {
+        return fullTextEnabled && keyword.length() >= minTokenLength;
+    }
+
+    // 검색 결과 id 순서(관련도 순)를 유지한 채 엔티티를 한 번에 조회한다.
+    private <T extends Scrap> List<T> findAllInOrder(Class<T> type, List<Long> scrapIds) {
+        Map<Long, Scrap> scrapsById = scrapRepository.findAllById(scrapIds).stream()
+                .collect(Collectors.toMap(Scrap::getId, Function.identity()));
+
+        return scrapIds.stream()
+                .map(scrapsById::get)
+                .filter(Objects::nonNull)
+                .map(type::cast)
+                .collect(Collectors.toList());
+    }
+}
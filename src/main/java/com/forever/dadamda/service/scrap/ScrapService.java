@@ -1,28 +1,38 @@
 package com.forever.dadamda.service.scrap;
 
+import com.forever.dadamda.dto.CursorResponse;
 import com.forever.dadamda.dto.ErrorCode;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.dto.scrap.CreateScrapResponse;
+import com.forever.dadamda.dto.scrap.GetScrapCountsResponse;
 import com.forever.dadamda.dto.scrap.GetScrapResponse;
+import com.forever.dadamda.dto.scrap.ScrapCursor;
 import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
+import com.forever.dadamda.entity.scrap.Other;
 import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.ScrapStatus;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.ScrapRepository;
-import com.forever.dadamda.service.WebClientService;
+import com.forever.dadamda.service.CrawlingService;
 import com.forever.dadamda.service.user.UserService;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import net.minidev.json.parser.ParseException;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -34,17 +44,20 @@ public class ScrapService {
     private final ArticleService articleService;
     private final ProductService productService;
     private final OtherService otherService;
-    private final WebClientService webClientService;
+    private final CrawlingService crawlingService;
     private final UserService userService;
     private final PlaceService placeService;
-    private final MemoRepository memoRepository;
+    private final ScrapMemoLoader scrapMemoLoader;
+    private final ScrapSearchService scrapSearchService;
+    private final ScrapSearchIndex scrapSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Value("${crawling.server.post.api.endPoint}")
-    private String crawlingApiEndPoint;
-
-    @Transactional
-    public CreateScrapResponse createScraps(String email, String pageUrl) throws ParseException {
+    // 중복 확인과 저장 사이에 같은 사용자의 다른 요청이 끼어들지 못하도록 사용자 락을 잡고,
+    // READ_COMMITTED로 락을 잡은 뒤의 조회가 먼저 커밋된 스크랩을 볼 수 있게 한다.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CreateScrapResponse createScraps(String email, String pageUrl) {
         User user = userService.validateUser(email);
+        userService.lockUser(user);
 
         boolean isPresentItem = scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(pageUrl,
                 user).isPresent();
@@ -52,37 +65,118 @@ public class ScrapService {
             throw new InvalidException(ErrorCode.INVALID_DUPLICATED_SCRAP);
         }
 
-        saveScraps(user, pageUrl);
+        //1. 크롤링 전에 대기 상태의 스크랩을 먼저 저장한다.
+        Scrap scrap = scrapRepository.save(Other.pending(user, pageUrl));
+
+        //2. 커밋 이후 ScrapCrawlingService가 백그라운드에서 크롤링 결과를 채운다.
+        eventPublisher.publishEvent(ScrapCreatedEvent.of(scrap.getId(), pageUrl));
+
+        return CreateScrapResponse.of(scrap.getId(), pageUrl);
+    }
+
+    // 호출하는 트랜잭션은 READ_COMMITTED여야 락 이후의 재조회가 동시에 저장된 스크랩을 볼 수 있다.
+    @Transactional
+    public Scrap findOrSaveScraps(User user, String pageUrl) {
+        Optional<Scrap> scrap = scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(pageUrl,
+                user);
+        if (scrap.isPresent()) {
+            return scrap.get();
+        }
+
+        // 크롤링은 락을 잡기 전에 하고, 같은 URL의 동시 크롤링은 CrawlingService에서 하나로 합쳐진다.
+        WebClientBodyResponse crawlingResponse = crawlingService.crawl(pageUrl);
 
-        return CreateScrapResponse.of(pageUrl);
+        userService.lockUser(user);
+
+        return scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(pageUrl, user)
+                .orElseGet(() -> saveScraps(user, pageUrl, crawlingResponse));
     }
 
     @Transactional
     public Scrap saveScraps(User user, String pageUrl) throws ParseException {
-        WebClientBodyResponse crawlingResponse = webClientService.crawlingItem(crawlingApiEndPoint, pageUrl);
+        return saveScraps(user, pageUrl, crawlingService.crawl(pageUrl));
+    }
+
+    private Scrap saveScraps(User user, String pageUrl, WebClientBodyResponse crawlingResponse) {
+        Scrap scrap = scrapRepository.save(createScrap(user, pageUrl, crawlingResponse));
+        scrapSearchIndex.reindexAfterCommit(user.getId(), scrap.getId());
+        return scrap;
+    }
+
+    // 일괄 가져오기: 크롤링이 끝난 묶음을 한 트랜잭션에서 배치 insert 한다.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int saveCrawledScraps(User user, Map<String, WebClientBodyResponse> crawlingResponses) {
+        userService.lockUser(user);
 
+        // 크롤링하는 동안 다른 요청으로 저장된 URL은 제외한다.
+        Set<String> existingPageUrls = new HashSet<>(
+                scrapRepository.findPageUrlsByUserAndPageUrlIn(user, crawlingResponses.keySet()));
+
+        List<Scrap> scraps = crawlingResponses.entrySet().stream()
+                .filter(entry -> !existingPageUrls.contains(entry.getKey()))
+                .map(entry -> createScrap(user, entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        scrapRepository.saveAll(scraps);
+        scrapSearchIndex.invalidateAfterCommit(user.getId());
+        return scraps.size();
+    }
+
+    private Scrap createScrap(User user, String pageUrl, WebClientBodyResponse crawlingResponse) {
         return Optional.ofNullable(crawlingResponse)
                 .map(response -> {
-                    String type = response.getType();
-                    if(response.getDescription() != null) {
-                        if(response.getDescription().length() > 1000) {
-                            response.setDescription(response.getDescription().substring(0, 1000));
-                        }
-                    }
-                    switch (type) {
-                        case "video":
-                            return videoService.saveVideo(response, user, pageUrl);
-                        case "article":
-                            return articleService.saveArticle(response, user, pageUrl);
-                        case "product":
-                            return productService.saveProduct(response, user, pageUrl);
-                        case "place":
-                            return placeService.savePlace(response, user, pageUrl);
+                    // 크롤링 결과에 타입이 없으면(null) 기타로 저장한다.
+                    switch (toDType(response.getType())) {
+                        case "Video":
+                            return videoService.createVideo(response, user, pageUrl);
+                        case "Article":
+                            return articleService.createArticle(response, user, pageUrl);
+                        case "Product":
+                            return productService.createProduct(response, user, pageUrl);
+                        case "Place":
+                            return placeService.createPlace(response, user, pageUrl);
                         default:
-                            return otherService.saveOther(response, user, pageUrl);
+                            return otherService.createOther(response, user, pageUrl);
                     }
                 })
-                .orElseGet(() -> otherService.saveOther(new WebClientBodyResponse(), user, pageUrl));
+                .orElseGet(() -> otherService.createOther(new WebClientBodyResponse(), user, pageUrl));
+    }
+
+    @Transactional
+    public void completeScrap(Long scrapId, WebClientBodyResponse crawlingResponse) {
+        WebClientBodyResponse response = Optional.ofNullable(crawlingResponse)
+                .orElseGet(WebClientBodyResponse::new);
+
+        scrapRepository.updateDType(scrapId, toDType(response.getType()));
+
+        Scrap scrap = scrapRepository.findById(scrapId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
+        scrap.completeCrawling(response);
+        scrapSearchIndex.reindexAfterCommit(scrap.getUser().getId(), scrapId);
+    }
+
+    @Transactional
+    public void failScrap(Long scrapId) {
+        scrapRepository.findById(scrapId)
+                .ifPresent(scrap -> scrap.updateStatus(ScrapStatus.FAILED));
+    }
+
+    private String toDType(String type) {
+        if (type == null) {
+            return "Other";
+        }
+        switch (type) {
+            case "video":
+                return "Video";
+            case "article":
+                return "Article";
+            case "product":
+                return "Product";
+            case "place":
+                return "Place";
+            default:
+                return "Other";
+        }
     }
 
     @Transactional
@@ -93,6 +187,7 @@ public class ScrapService {
                 .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
 
         item.updateDeletedDate(LocalDateTime.now());
+        scrapSearchIndex.reindexAfterCommit(user.getId(), scrapId);
     }
 
     @Transactional
@@ -106,14 +201,13 @@ public class ScrapService {
         Slice<Scrap> scrapSlice = scrapRepository.findAllByUserAndDeletedDateIsNull(user,
                 pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
 
-        return scrapSlice.map(scrap -> GetScrapResponse.of(scrap,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(scrap))
-        );
+        return scrapMemoLoader.mapWithMemos(scrapSlice, GetScrapResponse::of);
     }
 
     @Transactional
     public void updateScraps(String email, UpdateScrapRequest updateScrapRequest) {
         User user = userService.validateUser(email);
+        scrapSearchIndex.reindexAfterCommit(user.getId(), updateScrapRequest.getScrapId());
 
         switch (updateScrapRequest.getDType()) {
             case "product":
@@ -136,14 +230,57 @@ public class ScrapService {
         return scrapRepository.countByUserAndDeletedDateIsNull(user);
     }
 
+    @Transactional(readOnly = true)
+    public GetScrapCountsResponse getScrapCounts(String email) {
+        User user = userService.validateUser(email);
+
+        Map<String, Long> countsByDType = scrapRepository.countByUserIdGroupByDType(user.getId())
+                .stream()
+                .collect(Collectors.toMap(row -> (String) row[0],
+                        row -> ((Number) row[1]).longValue()));
+
+        return GetScrapCountsResponse.of(countsByDType);
+    }
+
     @Transactional
     public Slice<GetScrapResponse> searchScraps(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Scrap> scrapSlice = scrapRepository.searchKeywordInScrapOrderByCreatedDateDesc(user,
-                keyword, pageable);
+        Slice<Scrap> scrapSlice = scrapSearchService.search(user, Scrap.class, keyword,
+                pageable);
+
+        return scrapMemoLoader.mapWithMemos(scrapSlice, GetScrapResponse::of);
+    }
+
+    @Transactional
+    public CursorResponse<GetScrapResponse> getScrapsByCursor(String email, String cursor,
+            int size) {
+        User user = userService.validateUser(email);
+
+        Slice<Scrap> scrapSlice = scrapRepository.getScrapsByCursor(user,
+                ScrapCursor.decode(cursor), size);
+
+        return toCursorResponse(scrapSlice);
+    }
+
+    @Transactional
+    public CursorResponse<GetScrapResponse> searchScrapsByCursor(String email, String keyword,
+            String cursor, int size) {
+        User user = userService.validateUser(email);
+
+        Slice<Scrap> scrapSlice = scrapRepository.searchKeywordInScrapByCursor(user, keyword,
+                ScrapCursor.decode(cursor), size);
+
+        return toCursorResponse(scrapSlice);
+    }
+
+    private CursorResponse<GetScrapResponse> toCursorResponse(Slice<Scrap> scrapSlice) {
+        String nextCursor = scrapSlice.hasContent()
+                ? ScrapCursor.from(scrapSlice.getContent().get(scrapSlice.getNumberOfElements() - 1))
+                .encode()
+                : null;
 
-        return scrapSlice.map(scrap -> GetScrapResponse.of(scrap,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(scrap)));
+        return CursorResponse.of(scrapMemoLoader.mapWithMemos(scrapSlice, GetScrapResponse::of),
+                nextCursor);
     }
 }
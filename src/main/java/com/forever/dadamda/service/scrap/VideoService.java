@@ -7,7 +7,6 @@ import com.forever.dadamda.dto.scrap.UpdateScrapRequest;
 import com.forever.dadamda.entity.scrap.Video;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.NotFoundException;
-import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.scrap.video.VideoRepository;
 import com.forever.dadamda.service.TimeService;
 import com.forever.dadamda.service.user.UserService;
@@ -25,7 +24,8 @@ public class VideoService {
 
     private final VideoRepository videoRepository;
     private final UserService userService;
-    private final MemoRepository memoRepository;
+    private final ScrapMemoLoader scrapMemoLoader;
+    private final ScrapSearchService scrapSearchService;
 
     public static String formatViewCount(long count) {
         if (count >= 100000000) {
@@ -75,8 +75,11 @@ public class VideoService {
 
     @Transactional
     public Video saveVideo(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return videoRepository.save(createVideo(crawlingResponse, user, pageUrl));
+    }
 
-        Video video = Video.builder().user(user).pageUrl(pageUrl)
+    public Video createVideo(WebClientBodyResponse crawlingResponse, User user, String pageUrl) {
+        return Video.builder().user(user).pageUrl(pageUrl)
                 .title(crawlingResponse.getTitle())
                 .thumbnailUrl(crawlingResponse.getThumbnailUrl())
                 .description(crawlingResponse.getDescription())
@@ -88,8 +91,6 @@ public class VideoService {
                 .publishedDate(TimeService.fromUnixTime(crawlingResponse.getPublishedDate()))
                 .siteName(crawlingResponse.getSiteName())
                 .build();
-
-        return videoRepository.save(video);
     }
 
     @Transactional
@@ -119,18 +120,16 @@ public class VideoService {
         Slice<Video> videoSlice = videoRepository.findAllByUserAndDeletedDateIsNull(user,
                 pageRequest).orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_SCRAP));
 
-        return videoSlice.map(video -> GetVideoResponse.of(video,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(video)));
+        return scrapMemoLoader.mapWithMemos(videoSlice, GetVideoResponse::of);
     }
 
     @Transactional
     public Slice<GetVideoResponse> searchVideos(String email, String keyword, Pageable pageable) {
         User user = userService.validateUser(email);
 
-        Slice<Video> videoSlice = videoRepository.searchKeywordInVideoOrderByCreatedDateDesc(
-                user, keyword, pageable);
+        Slice<Video> videoSlice = scrapSearchService.search(user, Video.class, keyword,
+                pageable);
 
-        return videoSlice.map(video -> GetVideoResponse.of(video,
-                memoRepository.findMemosByScrapAndDeletedDateIsNull(video)));
+        return scrapMemoLoader.mapWithMemos(videoSlice, GetVideoResponse::of);
     }
 }
@@ -0,0 +1,167 @@
+package com.forever.dadamda.service.user;
+
+import static com.forever.dadamda.service.RandomService.adjectives;
+import static com.forever.dadamda.service.RandomService.adjectivesLength;
+import static com.forever.dadamda.service.RandomService.animals;
+import static com.forever.dadamda.service.RandomService.animalsLength;
+import static com.forever.dadamda.service.RandomService.numberLength;
+
+import com.forever.dadamda.repository.UserRepository;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 형용사 x 동물 x 숫자 조합의 랜덤 닉네임 사용 여부를 비트맵(약 110KB)으로 관리한다.
+// 슬롯 번호는 (형용사 * animalsLength + 동물) * numberLength + 숫자 이다.
+// 최종 중복 확인은 users.nickname 의 unique 제약이 보장하고, 이 비트맵은 빈 슬롯을 빠르게 찾는 용도이다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NicknameAllocator {
+
+    static final int CAPACITY = adjectivesLength * animalsLength * numberLength;
+
+    private final UserRepository userRepository;
+
+    private final BitSet usedSlots = new BitSet(CAPACITY);
+    private int usedCount;
+
+    @PostConstruct
+    protected void init() {
+        for (String nickname : userRepository.findAllNicknames()) {
+            markUsed(nickname);
+        }
+        log.info("닉네임 슬롯 {}/{} 사용 중", usedCount, CAPACITY);
+    }
+
+    // 임의의 위치에서 가장 가까운 빈 슬롯을 점유한다. 트랜잭션이 롤백되면 슬롯을 돌려놓는다.
+    public synchronized String allocate() {
+        if (usedCount >= CAPACITY) {
+            throw new RuntimeException("닉네임 생성 실패");
+        }
+
+        int slot = usedSlots.nextClearBit(ThreadLocalRandom.current().nextInt(CAPACITY));
+        if (slot >= CAPACITY) {
+            slot = usedSlots.nextClearBit(0);
+        }
+        usedSlots.set(slot);
+        usedCount++;
+
+        String nickname = toNickname(slot);
+        releaseOnRollback(nickname);
+        return nickname;
+    }
+
+    // 랜덤 닉네임 형식이 아니면 비트맵으로 관리하지 않으므로 항상 true 를 반환한다.
+    public synchronized boolean reserve(String nickname) {
+        int slot = toSlot(nickname);
+        if (slot < 0) {
+            return true;
+        }
+        if (usedSlots.get(slot)) {
+            return false;
+        }
+
+        usedSlots.set(slot);
+        usedCount++;
+        releaseOnRollback(nickname);
+        return true;
+    }
+
+    public synchronized void markUsed(String nickname) {
+        int slot = toSlot(nickname);
+        if (slot >= 0 && !usedSlots.get(slot)) {
+            usedSlots.set(slot);
+            usedCount++;
+        }
+    }
+
+    public synchronized void release(String nickname) {
+        int slot = toSlot(nickname);
+        if (slot >= 0 && usedSlots.get(slot)) {
+            usedSlots.clear(slot);
+            usedCount--;
+        }
+    }
+
+    // 변경 전 닉네임은 커밋된 뒤에야 다른 사용자가 쓸 수 있다.
+    public void releaseAfterCommit(String nickname) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(nickname);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(nickname);
+            }
+        });
+    }
+
+    private void releaseOnRollback(String nickname) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(nickname);
+                }
+            }
+        });
+    }
+
+    static String toNickname(int slot) {
+        int number = slot % numberLength;
+        int animal = (slot / numberLength) % animalsLength;
+        int adjective = slot / (numberLength * animalsLength);
+        return adjectives[adjective] + animals[animal] + number;
+    }
+
+    // 랜덤 닉네임 형식이 아니면 -1 을 반환한다.
+    static int toSlot(String nickname) {
+        if (nickname == null) {
+            return -1;
+        }
+
+        for (int adjective = 0; adjective < adjectivesLength; adjective++) {
+            if (!nickname.startsWith(adjectives[adjective])) {
+                continue;
+            }
+            for (int animal = 0; animal < animalsLength; animal++) {
+                if (!nickname.startsWith(animals[animal], adjectives[adjective].length())) {
+                    continue;
+                }
+                int number = parseNumber(nickname.substring(
+                        adjectives[adjective].length() + animals[animal].length()));
+                if (number >= 0) {
+                    return (adjective * animalsLength + animal) * numberLength + number;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // generateRandomNickname 이 만드는 숫자 형식(앞자리 0 없는 0 ~ numberLength-1)만 허용한다.
+    private static int parseNumber(String value) {
+        if (value.isEmpty() || value.length() > String.valueOf(numberLength - 1).length()
+                || (value.length() > 1 && value.charAt(0) == '0')) {
+            return -1;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return -1;
+            }
+        }
+        int number = Integer.parseInt(value);
+        return number < numberLength ? number : -1;
+    }
+}
@@ -3,22 +3,35 @@ package com.forever.dadamda.service.user;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.dto.user.AuthUser;
 import com.forever.dadamda.dto.user.GetUserInfoResponse;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.UserRepository;
 import com.forever.dadamda.service.TimeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.sentry.Sentry;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import javax.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -28,14 +41,95 @@ public class UserService {
     @Value("${application.bucket.name}")
     private String bucketName;
 
+    @Value("${user.id-cache.maximum-size}")
+    private long userIdCacheMaximumSize;
+
+    @Value("${user.id-cache.expire-after-write-seconds}")
+    private long userIdCacheExpireAfterWriteSeconds;
+
+    private static final String USER_ID_ATTRIBUTE_PREFIX = UserService.class.getName() + ".userId.";
+
     private final UserRepository userRepository;
     private final AmazonS3 s3Client;
+    private final MeterRegistry meterRegistry;
+    private final NicknameAllocator nicknameAllocator;
+
+    // email -> 탈퇴하지 않은 사용자의 id (탈퇴, 닉네임/프로필 이미지 변경 시 비운다)
+    private Cache<String, Long> userIdCache;
+
+    // 토큰의 사용자 id 중 탈퇴하지 않은 것이 확인된 id (탈퇴 시 비운다)
+    private Cache<Long, Boolean> activeUserIdCache;
+
+    @PostConstruct
+    protected void init() {
+        userIdCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(userIdCacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(userIdCacheExpireAfterWriteSeconds))
+                .recordStats()
+                .<String, Long>build(), "userId");
+        activeUserIdCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(userIdCacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(userIdCacheExpireAfterWriteSeconds))
+                .recordStats()
+                .<Long, Boolean>build(), "activeUserId");
+    }
 
+    // 인증된 토큰에 사용자 id 가 있으면 그 id 를, 없으면 같은 요청 안에서는 요청 속성에,
+    // 요청 사이에서는 짧은 TTL 캐시에 기억해 둔 id 를 사용해 조회 쿼리 없이 참조(프록시)를 반환한다.
+    // 필드는 처음 접근할 때 id 로 조회된다.
+    // 토큰의 id 는 탈퇴한(또는 탈퇴 후 정리된) 사용자의 id 일 수 있으므로, 기본키로 탈퇴 여부만 확인한다.
     @Transactional
     public User validateUser(String email) {
-        return userRepository.findByEmailAndDeletedDateIsNull(email).orElseThrow(
-                () -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMBER)
-        );
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = USER_ID_ATTRIBUTE_PREFIX + email;
+
+        Long userId = requestAttributes == null ? null
+                : (Long) requestAttributes.getAttribute(attributeName,
+                        RequestAttributes.SCOPE_REQUEST);
+
+        Long authenticatedUserId = getAuthenticatedUserId(email);
+        if (userId == null && authenticatedUserId != null) {
+            validateActiveUserId(authenticatedUserId);
+            userId = authenticatedUserId;
+        }
+        if (userId == null) {
+            userId = userIdCache.getIfPresent(email);
+        }
+
+        User user;
+        if (userId != null) {
+            user = userRepository.getReferenceById(userId);
+        } else {
+            user = userRepository.findByEmailAndDeletedDateIsNull(email).orElseThrow(
+                    () -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMBER)
+            );
+            userIdCache.put(email, user.getId());
+        }
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(attributeName, user.getId(),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return user;
+    }
+
+    private void validateActiveUserId(Long userId) {
+        if (activeUserIdCache.getIfPresent(userId) != null) {
+            return;
+        }
+
+        if (!userRepository.existsByIdAndDeletedDateIsNull(userId)) {
+            throw new NotFoundException(ErrorCode.NOT_EXISTS_MEMBER);
+        }
+        activeUserIdCache.put(userId, Boolean.TRUE);
+    }
+
+    // 같은 사용자의 요청을 트랜잭션이 끝날 때까지 직렬화한다. (users 행에 쓰기 락)
+    @Transactional
+    public void lockUser(User user) {
+        userRepository.findByIdForUpdate(user.getId())
+                .orElseThrow(() -> new NotFoundException(ErrorCode.NOT_EXISTS_MEMBER));
     }
 
     @Transactional
@@ -57,6 +151,8 @@ public class UserService {
     public void deleteUser(String email) {
         User user = validateUser(email);
         user.updateDeletedDate(LocalDateTime.now());
+        evictUser(email);
+        invalidateNowAndAfterCommit(() -> activeUserIdCache.invalidate(user.getId()));
     }
 
     @Transactional
@@ -89,6 +185,7 @@ public class UserService {
 
         String url = s3Client.getUrl(bucketName, fileName).toString();
         user.updateProfileImage(url);
+        evictUser(email);
     }
     
     private void validateExist(MultipartFile file) {
@@ -101,16 +198,54 @@ public class UserService {
     public void deleteProfileImage(String email) {
         User user = validateUser(email);
         user.deleteProfileImage();
+        evictUser(email);
     }
 
     @Transactional
     public void updateNickname(String nickname, String email) {
         User user = validateUser(email);
 
-        if(userRepository.existsByNickname(nickname)) {
+        if(userRepository.existsByNickname(nickname) || !nicknameAllocator.reserve(nickname)) {
             throw new InvalidException(ErrorCode.INVALID_DUPLICATED_NICKNAME);
         }
 
+        nicknameAllocator.releaseAfterCommit(user.getNickname());
         user.updateNickname(nickname);
+        evictUser(email);
+    }
+
+    private Long getAuthenticatedUserId(String email) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthUser)) {
+            return null;
+        }
+
+        AuthUser authUser = (AuthUser) authentication.getPrincipal();
+        return email.equals(authUser.getEmail()) ? authUser.getUserId() : null;
+    }
+
+    private void evictUser(String email) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(USER_ID_ATTRIBUTE_PREFIX + email,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+
+        invalidateNowAndAfterCommit(() -> userIdCache.invalidate(email));
+    }
+
+    // 커밋 전에 다른 요청이 이전 상태로 캐시를 다시 채울 수 있으므로, 커밋 후에 한 번 더 비운다.
+    private void invalidateNowAndAfterCommit(Runnable invalidate) {
+        invalidate.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidate.run();
+                        }
+                    });
+        }
     }
 }
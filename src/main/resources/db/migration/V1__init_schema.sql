@@ -0,0 +1,113 @@
+-- Flyway 도입 전까지 ddl-auto(update) 로 만들어 오던 스키마. 기존 DB 는 이 버전을 기준선(baseline)으로 삼으므로,
+-- 이미 운영 중인 DB 와 같아야 한다. 스키마 변경은 이 파일을 고치지 않고 새 버전으로 추가한다.
+
+CREATE TABLE hibernate_sequence
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO hibernate_sequence VALUES (1);
+
+CREATE TABLE users
+(
+    user_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    deleted_date  DATETIME(6),
+    name          VARCHAR(100) NOT NULL,
+    email         VARCHAR(320) NOT NULL,
+    profile_url   VARCHAR(2083),
+    provider      INTEGER      NOT NULL,
+    uuid          BINARY(16)   NOT NULL,
+    nickname      VARCHAR(10)  NOT NULL,
+    role          VARCHAR(255) NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_uuid UNIQUE (uuid),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE scrap
+(
+    d_type             VARCHAR(31)   NOT NULL,
+    scrap_id           BIGINT        NOT NULL,
+    created_date       DATETIME(6),
+    modified_date      DATETIME(6),
+    deleted_date       DATETIME(6),
+    user_id            BIGINT        NOT NULL,
+    page_url           VARCHAR(2083) NOT NULL,
+    title              VARCHAR(200),
+    thumbnail_url      VARCHAR(2083),
+    description        VARCHAR(1000),
+    site_name          VARCHAR(100),
+    author             VARCHAR(100),
+    author_image_url   VARCHAR(2083),
+    blog_name          VARCHAR(100),
+    published_date     DATETIME(6),
+    embed_url          VARCHAR(2083),
+    channel_name       VARCHAR(100),
+    channel_image_url  VARCHAR(2083),
+    watched_cnt        BIGINT,
+    play_time          BIGINT,
+    genre              VARCHAR(100),
+    price              VARCHAR(100),
+    address            VARCHAR(255),
+    latitude           DECIMAL(16, 14),
+    longitude          DECIMAL(17, 14),
+    phone_number       VARCHAR(30),
+    zip_code           VARCHAR(30),
+    homepage_url       VARCHAR(2083),
+    category           VARCHAR(100),
+    PRIMARY KEY (scrap_id),
+    CONSTRAINT fk_scrap_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE memo
+(
+    memo_id        BIGINT NOT NULL,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    deleted_date   DATETIME(6),
+    scrap_id       BIGINT NOT NULL,
+    memo_text      VARCHAR(1000),
+    memo_image_url VARCHAR(2083),
+    PRIMARY KEY (memo_id),
+    CONSTRAINT fk_memo_scrap FOREIGN KEY (scrap_id) REFERENCES scrap (scrap_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE board
+(
+    board_id          BIGINT       NOT NULL,
+    created_date      DATETIME(6),
+    modified_date     DATETIME(6),
+    deleted_date      DATETIME(6),
+    uuid              BINARY(16)   NOT NULL,
+    user_id           BIGINT       NOT NULL,
+    title             VARCHAR(100) NOT NULL,
+    is_public         BOOLEAN DEFAULT FALSE NOT NULL,
+    is_shared         BOOLEAN DEFAULT FALSE NOT NULL,
+    fixed_date        DATETIME(6),
+    tag               INTEGER      NOT NULL,
+    description       VARCHAR(1000),
+    contents          TEXT,
+    heart_cnt         BIGINT DEFAULT 0,
+    view_cnt          BIGINT DEFAULT 0,
+    share_cnt         BIGINT DEFAULT 0,
+    thumbnail_url     VARCHAR(2084),
+    original_board_id BIGINT,
+    PRIMARY KEY (board_id),
+    CONSTRAINT uk_board_uuid UNIQUE (uuid),
+    CONSTRAINT fk_board_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE heart
+(
+    heart_id      BIGINT NOT NULL,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    deleted_date  DATETIME(6),
+    user_id       BIGINT NOT NULL,
+    board_id      BIGINT NOT NULL,
+    PRIMARY KEY (heart_id),
+    CONSTRAINT fk_heart_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_heart_board FOREIGN KEY (board_id) REFERENCES board (board_id)
+) ENGINE = InnoDB;
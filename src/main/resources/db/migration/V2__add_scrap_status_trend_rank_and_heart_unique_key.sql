@@ -0,0 +1,45 @@
+-- Flyway 도입 전에 코드(엔티티)에만 추가되었던 스키마 변경. 기준선(V1) DB 에 그대로 적용된다.
+
+-- 스크랩 크롤링 상태 (대기 중인 스크랩을 먼저 저장하고 백그라운드에서 크롤링한다)
+-- 기존 스크랩은 모두 저장할 때 크롤링을 마쳤으므로 완료 상태로 채운다.
+ALTER TABLE scrap ADD COLUMN status VARCHAR(20);
+UPDATE scrap SET status = 'COMPLETED' WHERE status IS NULL;
+
+-- 트렌딩 보드 정렬
+CREATE INDEX idx_board_trend_order ON board (is_public, heart_cnt, share_cnt, view_cnt, board_id);
+
+-- 하트는 사용자, 보드마다 한 행만 두고 취소/다시 누르기는 deleted_date 로 바꾼다.
+-- 이전에는 다시 누를 때마다 새 행을 만들었으므로, 유니크 키를 걸기 전에 한 행만 남긴다.
+-- 남길 행: 취소되지 않은 하트가 있으면 그 하트, 없으면 가장 최근 하트 (같은 조건이면 heart_id 가 큰 것)
+DELETE h
+FROM heart h
+         JOIN heart kept
+              ON kept.user_id = h.user_id
+                  AND kept.board_id = h.board_id
+                  AND ((kept.deleted_date IS NULL AND h.deleted_date IS NOT NULL)
+                      OR ((kept.deleted_date IS NULL) = (h.deleted_date IS NULL)
+                          AND kept.heart_id > h.heart_id));
+
+ALTER TABLE heart ADD CONSTRAINT uk_heart_user_board UNIQUE (user_id, board_id);
+
+-- 보드의 하트 수를 남은(취소되지 않은) 하트 수에 맞춘다. 동시에 눌려 중복으로 남았던 하트로 어긋난 수도 바로잡는다.
+UPDATE board b
+SET b.heart_cnt = (SELECT COUNT(*)
+                   FROM heart h
+                   WHERE h.board_id = b.board_id
+                     AND h.deleted_date IS NULL);
+
+-- 트렌딩 보드 정렬 키 (TrendRankService 가 애플리케이션 시작 시 board 에서 다시 채운다)
+CREATE TABLE trend_rank
+(
+    board_id           BIGINT      NOT NULL,
+    tag                INTEGER     NOT NULL,
+    board_created_date DATETIME(6) NOT NULL,
+    heart_cnt          BIGINT,
+    share_cnt          BIGINT,
+    view_cnt           BIGINT,
+    PRIMARY KEY (board_id),
+    INDEX idx_trend_rank_order (heart_cnt, share_cnt, view_cnt, board_id, board_created_date),
+    INDEX idx_trend_rank_tag_order (tag, heart_cnt, share_cnt, view_cnt, board_id, board_created_date),
+    CONSTRAINT fk_trend_rank_board FOREIGN KEY (board_id) REFERENCES board (board_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,22 @@
+-- 자주 쓰는 조회는 모두 user_id + deleted_date IS NULL 로 거른 뒤 정렬하거나 page_url 을 비교한다.
+-- deleted_date 를 user_id 바로 뒤에 두어 탈퇴/삭제 행을 인덱스 범위에서 제외한다.
+
+-- 스크랩 목록/커서 (created_date desc, scrap_id desc)
+CREATE INDEX idx_scrap_user_deleted_created ON scrap (user_id, deleted_date, created_date, scrap_id);
+
+-- 타입별 스크랩 목록 (비디오, 아티클, 상품, 장소, 기타)
+CREATE INDEX idx_scrap_user_type_deleted_created
+    ON scrap (user_id, d_type, deleted_date, created_date, scrap_id);
+
+-- 중복 스크랩 확인. page_url 은 최대 2083자라 앞 255자만 인덱싱하고 나머지는 행에서 비교한다.
+CREATE INDEX idx_scrap_user_page_url ON scrap (user_id, page_url(255));
+
+-- 스크랩별 메모 조회
+CREATE INDEX idx_memo_scrap_deleted ON memo (scrap_id, deleted_date, memo_id);
+
+-- 내 보드 목록 (fixed_date desc, modified_date desc)
+CREATE INDEX idx_board_user_deleted_fixed_modified
+    ON board (user_id, deleted_date, fixed_date, modified_date);
+
+-- 요청마다 email 로 사용자를 찾는다.
+CREATE INDEX idx_users_email_deleted ON users (email, deleted_date);
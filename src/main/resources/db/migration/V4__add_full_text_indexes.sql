@@ -0,0 +1,6 @@
+-- 스크랩 검색은 제목, 설명, 메모를 대상으로 한다.
+-- LIKE '%keyword%' 는 인덱스를 쓰지 못하므로 ngram 파서(기본 ngram_token_size = 2)로 FULLTEXT 인덱스를 만든다.
+-- 한글처럼 띄어쓰기로 단어를 나눌 수 없는 글도 두 글자 단위로 검색된다.
+ALTER TABLE scrap ADD FULLTEXT INDEX ftx_scrap_title_description (title, description) WITH PARSER ngram;
+
+ALTER TABLE memo ADD FULLTEXT INDEX ftx_memo_text (memo_text) WITH PARSER ngram;
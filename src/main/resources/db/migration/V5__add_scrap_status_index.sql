@@ -0,0 +1,3 @@
+-- 크롤링 스레드 풀이 가득 차서 대기(PENDING) 상태로 남은 스크랩을 찾아 다시 크롤링한다.
+-- 대기 중인 스크랩은 소수이므로 status 로 바로 좁힌다.
+CREATE INDEX idx_scrap_status_modified ON scrap (status, modified_date);
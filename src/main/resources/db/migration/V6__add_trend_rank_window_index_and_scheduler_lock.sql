@@ -0,0 +1,17 @@
+-- 트렌딩 목록은 기간(board_created_date)으로 먼저 좁힌 뒤 그 기간의 보드만 정렬한다.
+-- 정렬 키로 시작하는 인덱스는 기간 밖의 보드까지 모두 훑으므로 기간 컬럼으로 시작하는 인덱스로 바꾼다.
+DROP INDEX idx_trend_rank_order ON trend_rank;
+DROP INDEX idx_trend_rank_tag_order ON trend_rank;
+CREATE INDEX idx_trend_rank_window_order
+    ON trend_rank (board_created_date, heart_cnt, share_cnt, view_cnt, board_id);
+CREATE INDEX idx_trend_rank_tag_window_order
+    ON trend_rank (tag, board_created_date, heart_cnt, share_cnt, view_cnt, board_id);
+
+-- 스케줄 작업 잠금 (여러 서버 중 한 서버만 trend_rank 재구성 등을 실행한다)
+CREATE TABLE scheduler_lock
+(
+    name         VARCHAR(64) NOT NULL,
+    locked_until DATETIME(6) NOT NULL,
+    locked_by    VARCHAR(64) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
@@ -0,0 +1,66 @@
+package com.forever.dadamda.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.forever.dadamda.mock.WithCustomMockUser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @WithCustomMockUser
+    public void should_library_is_exported_as_gzip_When_gzip_is_true() throws Exception {
+        // gzip 이 true 이면 gzip 파일로 내려받고, 압축을 풀면 NDJSON 한 줄에 스크랩 하나씩 들어 있는지 확인
+        //given
+        //when
+        MvcResult result = mockMvc.perform(get("/v1/export")
+                        .param("gzip", "true")
+                        .header("X-AUTH-TOKEN", "aaaaaaa"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content()
+                        .contentTypeCompatibleWith("application/gzip"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"dadamda-export.ndjson.gz\""))
+                .andReturn();
+
+        //then
+        byte[] body = result.getResponse().getContentAsByteArray();
+        String ndjson;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(objectMapper.readTree(lines[0]).get("data").get("scrapId").asLong())
+                .isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[3]).get("data").get("scrapId").asLong())
+                .isEqualTo(4L);
+    }
+}
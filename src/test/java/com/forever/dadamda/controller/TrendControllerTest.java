@@ -4,7 +4,10 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 import com.forever.dadamda.mock.WithCustomMockUser;
+import com.forever.dadamda.service.PopularUsersLeaderboard;
+import com.forever.dadamda.service.TrendRankService;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -26,12 +29,24 @@ public class TrendControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private TrendRankService trendRankService;
+
+    @Autowired
+    private PopularUsersLeaderboard popularUsersLeaderboard;
+
     UUID board1UUID = UUID.fromString("30373832-6566-3438-2d61-3433392d3131");
 
     UUID board2UUID = UUID.fromString("30373832-6566-3438-2d61-3433392d3132");
 
     UUID board3UUID = UUID.fromString("30373832-6566-3438-2d61-3433392d3133");
 
+    @BeforeEach
+    void setUp() {
+        trendRankService.rebuildAll();
+        popularUsersLeaderboard.refreshAll();
+    }
+
     @Test
     @WithCustomMockUser
     public void should_it_returns_4xx_error_When_heart_are_pressed_on_a_board_that_is_not_published_in_trending()
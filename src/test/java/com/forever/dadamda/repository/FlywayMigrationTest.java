@@ -0,0 +1,95 @@
+package com.forever.dadamda.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// dev, prod 처럼 Flyway 도입 전 스키마(V1)로 운영 중인 MySQL 을 V1 기준선으로 잡고 마이그레이션한다.
+// MySQL 전용 문법(접두어 인덱스, FULLTEXT ngram 등)을 쓰므로 H2 대신 컨테이너를 쓰고, Docker 가 없으면 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+public class FlywayMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Test
+    void should_all_migrations_are_applied_When_database_at_the_baseline_schema_is_migrated() {
+        // 기준선 스키마와 이전 방식으로 쌓인 데이터(다시 누를 때마다 새로 만든 하트)가 있는 DB 에
+        // V2 부터 적용되고, 하트가 사용자/보드마다 한 행으로 정리되는지 확인
+        //given
+        DataSource dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(),
+                MYSQL.getUsername(), MYSQL.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__init_schema.sql"))
+                .execute(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (user_id, name, email, provider, uuid, nickname, role) "
+                + "VALUES (1, 'koko', '1234@naver.com', 0, UNHEX(REPLACE(UUID(), '-', '')), "
+                + "'귀여운해달1', 'USER')");
+        jdbcTemplate.update("INSERT INTO scrap (d_type, scrap_id, user_id, page_url) "
+                + "VALUES ('Other', 1, 1, 'https://www.naver.com')");
+        for (long boardId = 1; boardId <= 2; boardId++) {
+            jdbcTemplate.update("INSERT INTO board (board_id, uuid, user_id, title, tag, heart_cnt) "
+                    + "VALUES (?, UNHEX(REPLACE(UUID(), '-', '')), 1, 'board', 0, 2)", boardId);
+        }
+        // 보드 1: 취소한 하트 2개 + 다시 누른 하트 1개 / 보드 2: 취소한 하트 2개
+        insertHeart(jdbcTemplate, 1L, 1L, "'2023-01-01 00:00:00'");
+        insertHeart(jdbcTemplate, 2L, 1L, "NULL");
+        insertHeart(jdbcTemplate, 3L, 1L, "'2023-01-03 00:00:00'");
+        insertHeart(jdbcTemplate, 4L, 2L, "'2023-01-01 00:00:00'");
+        insertHeart(jdbcTemplate, 5L, 2L, "'2023-01-02 00:00:00'");
+
+        //when
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        //then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT MAX(version) FROM flyway_schema_history", String.class)).isEqualTo("6");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM scrap WHERE scrap_id = 1", String.class)).isEqualTo("COMPLETED");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT heart_id FROM heart ORDER BY heart_id", Long.class)).containsExactly(2L, 5L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT heart_cnt FROM board ORDER BY board_id", Long.class)).containsExactly(1L, 0L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM trend_rank", Long.class))
+                .isEqualTo(0L);
+        assertThat(indexNames(jdbcTemplate, "scrap")).contains("idx_scrap_user_deleted_created",
+                "idx_scrap_user_type_deleted_created", "idx_scrap_user_page_url",
+                "ftx_scrap_title_description", "idx_scrap_status_modified");
+        assertThat(indexNames(jdbcTemplate, "heart")).contains("uk_heart_user_board");
+        assertThat(indexNames(jdbcTemplate, "board")).contains("idx_board_trend_order",
+                "idx_board_user_deleted_fixed_modified");
+        assertThat(indexNames(jdbcTemplate, "memo")).contains("idx_memo_scrap_deleted");
+        assertThat(indexNames(jdbcTemplate, "users")).contains("idx_users_email_deleted");
+        assertThat(indexNames(jdbcTemplate, "trend_rank")).contains("idx_trend_rank_window_order",
+                "idx_trend_rank_tag_window_order").doesNotContain("idx_trend_rank_order");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scheduler_lock", Long.class))
+                .isEqualTo(0L);
+    }
+
+    private void insertHeart(JdbcTemplate jdbcTemplate, Long heartId, Long boardId,
+            String deletedDate) {
+        jdbcTemplate.update("INSERT INTO heart (heart_id, user_id, board_id, deleted_date) "
+                + "VALUES (?, 1, ?, " + deletedDate + ")", heartId, boardId);
+    }
+
+    private List<String> indexNames(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT index_name FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ?", String.class, table);
+    }
+}
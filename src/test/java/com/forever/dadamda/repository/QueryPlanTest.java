@@ -0,0 +1,95 @@
+package com.forever.dadamda.repository;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+// 자주 쓰는 조회가 엔티티(@Table indexes)에 선언한 인덱스를 탈 수 있는지 H2 의 EXPLAIN 으로 확인한다.
+// (전체 스캔이면 H2 실행 계획에 tableScan 이 나온다)
+// 테스트 스키마는 Flyway 가 아니라 엔티티 매핑으로 만들어지므로, 엔티티 매핑만 확인하고 MySQL 의 실행 계획을
+// 보장하지는 않는다. 운영 스키마(db/migration)에 같은 인덱스가 있는지는 FlywayMigrationTest 에서 확인한다.
+@DataJpaTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Import(TestConfig.class)
+public class QueryPlanTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void should_index_is_used_When_getting_scrap_list_of_user() {
+        // 사용자의 스크랩 목록을 최신순으로 조회할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT scrap_id FROM scrap "
+                + "WHERE user_id = 1 AND deleted_date IS NULL "
+                + "ORDER BY created_date DESC, scrap_id DESC LIMIT 10");
+    }
+
+    @Test
+    void should_index_is_used_When_getting_scrap_list_of_user_by_type() {
+        // 사용자의 타입별 스크랩 목록을 조회할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT scrap_id FROM scrap "
+                + "WHERE user_id = 1 AND d_type = 'Video' AND deleted_date IS NULL "
+                + "ORDER BY created_date DESC, scrap_id DESC LIMIT 10");
+    }
+
+    @Test
+    void should_index_is_used_When_checking_duplicated_page_url() {
+        // 같은 pageUrl 의 스크랩이 있는지 확인할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT scrap_id FROM scrap "
+                + "WHERE user_id = 1 AND page_url = 'https://www.naver.com' AND deleted_date IS NULL");
+    }
+
+    @Test
+    void should_index_is_used_When_getting_memos_of_scraps() {
+        // 스크랩들의 메모를 조회할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT memo_id FROM memo "
+                + "WHERE scrap_id IN (1, 2, 3) AND deleted_date IS NULL ORDER BY memo_id");
+    }
+
+    @Test
+    void should_index_is_used_When_getting_board_list_of_user() {
+        // 사용자의 보드 목록을 조회할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT board_id FROM board "
+                + "WHERE user_id = 1 AND deleted_date IS NULL "
+                + "ORDER BY fixed_date DESC, modified_date DESC LIMIT 10");
+    }
+
+    @Test
+    void should_index_is_used_When_finding_user_by_email() {
+        // email 로 사용자를 조회할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT user_id FROM users "
+                + "WHERE email = '1234@naver.com' AND deleted_date IS NULL");
+    }
+
+    @Test
+    void should_index_is_used_When_getting_trend_boards_by_tag() {
+        // 기간 안의 태그별 트렌딩 보드를 조회할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT board_id FROM trend_rank WHERE tag = 1 "
+                + "AND board_created_date BETWEEN '2023-01-01' AND '2023-02-01' "
+                + "ORDER BY heart_cnt DESC, share_cnt DESC, view_cnt DESC, board_id DESC LIMIT 10");
+    }
+
+    @Test
+    void should_index_is_used_When_getting_trend_boards_in_window() {
+        // 기간 안의 트렌딩 보드를 조회할 때, 인덱스를 사용하는지 확인
+        assertNotFullScan("SELECT board_id FROM trend_rank "
+                + "WHERE board_created_date BETWEEN '2023-01-01' AND '2023-02-01' "
+                + "ORDER BY heart_cnt DESC, share_cnt DESC, view_cnt DESC, board_id DESC LIMIT 10");
+    }
+
+    private void assertNotFullScan(String sql) {
+        String plan = String.valueOf(
+                entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+}
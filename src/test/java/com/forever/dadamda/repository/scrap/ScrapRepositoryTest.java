@@ -1,7 +1,8 @@
 package com.forever.dadamda.repository.scrap;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.entity.scrap.Scrap;
 import com.forever.dadamda.entity.user.User;
 import com.forever.dadamda.repository.TestConfig;
@@ -41,11 +42,28 @@ public class ScrapRepositoryTest {
         Pageable pageable = PageRequest.of(0, 2);
 
         //when
-        Slice<Scrap> results = scrapRepository.searchKeywordInScrapOrderByCreatedDateDesc(user,
+        Slice<Long> results = scrapRepository.searchScrapIdsByKeyword(user, Scrap.class,
                 keyword, pageable);
 
         // then
-        assertThat(results.getSize()).isEqualByComparingTo(2);
+        assertThat(results.getContent()).containsExactly(4L, 3L);
         assertThat(results.hasNext()).isTrue();
     }
+
+    @Test
+    void should_ids_of_the_type_are_returned_When_searching_for_keywords_without_case_sensitivity() {
+        // 대소문자를 구분하지 않고 keyword를 검색할 때, 해당 타입의 스크랩 id만 반환되는지 확인
+        // given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+        String keyword = "toDay";
+        Pageable pageable = PageRequest.of(0, 2);
+
+        //when
+        Slice<Long> results = scrapRepository.searchScrapIdsByKeyword(user, Article.class,
+                keyword, pageable);
+
+        // then
+        assertThat(results.getContent()).containsExactly(4L);
+        assertThat(results.hasNext()).isFalse();
+    }
 }
@@ -8,6 +8,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import com.forever.dadamda.dto.board.CreateBoardRequest;
 import com.forever.dadamda.dto.board.GetBoardContentsResponse;
 import com.forever.dadamda.dto.board.GetBoardResponse;
+import com.forever.dadamda.dto.board.GetBoardSuggestionResponse;
 import com.forever.dadamda.dto.board.UpdateBoardContentsRequest;
 import com.forever.dadamda.dto.board.UpdateBoardRequest;
 import com.forever.dadamda.entity.board.Board;
@@ -17,8 +18,10 @@ import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.board.BoardRepository;
 import com.forever.dadamda.repository.UserRepository;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -441,4 +444,40 @@ public class BoardServiceTest {
         assertThat(board.isPublic()).isEqualTo(false);
         assertThat(board.isShared()).isEqualTo(false);
     }
+
+    @Test
+    void should_only_the_preview_of_contents_is_returned_When_getting_a_list_of_boards() {
+        // 보드 목록을 조회할 때, 보드 내용 전체가 아니라 앞부분 미리보기만 반환되는지 확인
+        //given
+        String longContents = "a".repeat(GetBoardResponse.CONTENTS_PREVIEW_LENGTH + 100);
+        boardService.updateBoardContents(existentEmail, board2UUID,
+                UpdateBoardContentsRequest.builder().contents(longContents).build());
+
+        //when
+        Slice<GetBoardResponse> getBoardResponseSlice = boardService.getBoardList(existentEmail,
+                PageRequest.of(0, 10));
+
+        //then
+        GetBoardResponse board2 = getBoardResponseSlice.getContent().stream()
+                .filter(board -> board.getUuid().equals(board2UUID))
+                .findFirst()
+                .get();
+
+        assertThat(board2.getContents()).isEqualTo(
+                longContents.substring(0, GetBoardResponse.CONTENTS_PREVIEW_LENGTH));
+    }
+
+    @Test
+    void should_my_boards_are_suggested_in_recently_modified_order_When_typing_the_beginning_of_the_title() {
+        // 보드 제목 앞부분을 입력할 때, 삭제되지 않은 내 보드가 최근 수정한 순으로 조회되는지 확인
+        //given
+        //when
+        List<GetBoardSuggestionResponse> suggestions = boardService.suggestBoards(existentEmail,
+                "BOARD", 10);
+
+        //then
+        assertThat(suggestions.stream().map(GetBoardSuggestionResponse::getTitle)
+                .collect(Collectors.toList()))
+                .isEqualTo(List.of("board4", "board3", "board2", "board1"));
+    }
 }
@@ -0,0 +1,50 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.forever.dadamda.service.BoardTitleSuggester.Suggestion;
+import com.forever.dadamda.service.BoardTitleSuggester.TitleIndex;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+public class BoardTitleSuggesterTest {
+
+    @Test
+    void should_titles_are_suggested_When_the_last_hangul_letter_is_still_being_typed() {
+        // 마지막 글자를 입력하는 중("맥부", "맥북ㅍ")에도 "맥북프로" 가 자동완성되는지 확인
+        //given
+        TitleIndex index = new TitleIndex();
+        index.put(1L, UUID.randomUUID(), "맥북프로 비교", 1);
+        index.put(2L, UUID.randomUUID(), "맥주 맛집", 2);
+
+        //when
+        //then
+        assertThat(titles(index.suggest("맥부", 10))).containsExactly("맥북프로 비교");
+        assertThat(titles(index.suggest("맥북ㅍ", 10))).containsExactly("맥북프로 비교");
+        assertThat(titles(index.suggest("ㅁ", 10))).containsExactly("맥주 맛집", "맥북프로 비교");
+    }
+
+    @Test
+    void should_changed_title_is_suggested_and_removed_one_is_not_When_titles_are_updated() {
+        // 제목을 바꾸거나 보드를 지우면, 이전 접두어로 캐시해 둔 결과 대신 바뀐 결과가 조회되는지 확인
+        //given
+        TitleIndex index = new TitleIndex();
+        index.put(1L, UUID.randomUUID(), "Travel Seoul", 1);
+        index.put(2L, UUID.randomUUID(), "travel Busan", 1);
+        assertThat(titles(index.suggest("trav", 10))).containsExactly("travel Busan", "Travel Seoul");
+
+        //when
+        index.put(1L, UUID.randomUUID(), "Food Seoul", 1);
+        index.remove(2L);
+
+        //then
+        assertThat(index.suggest("trav", 10)).isEmpty();
+        assertThat(titles(index.suggest("food", 10))).containsExactly("Food Seoul");
+    }
+
+    private List<String> titles(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getTitle).collect(Collectors.toList());
+    }
+}
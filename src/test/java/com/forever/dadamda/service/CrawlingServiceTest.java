@@ -0,0 +1,127 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class CrawlingServiceTest {
+
+    @Autowired
+    private CrawlingService crawlingService;
+
+    @MockBean
+    private WebClientService webClientService;
+
+    @BeforeEach
+    void setUp() {
+        crawlingService.evictAll();
+    }
+
+    @Test
+    void should_tracking_parameters_and_fragment_are_removed_When_canonicalizing_url() {
+        // URL을 정규화할 때, scheme/host가 소문자가 되고 추적용 파라미터와 fragment가 제거되는지 확인
+        //given
+        String pageUrl = "HTTPS://WWW.YouTube.com:443/watch?v=abc&utm_source=kakao&fbclid=123#t=10";
+
+        //when
+        String canonicalUrl = UrlService.canonicalize(pageUrl);
+
+        //then
+        assertThat(canonicalUrl).isEqualTo("https://www.youtube.com/watch?v=abc");
+    }
+
+    @Test
+    void should_crawling_server_is_called_once_When_same_page_is_crawled_with_different_tracking_parameters() {
+        // 추적용 파라미터만 다른 같은 페이지를 두 번 크롤링할 때, 크롤링 서버는 한 번만 호출되는지 확인
+        //given
+        String pageUrl = "https://www.youtube.com/watch?v=abc";
+        String trackedPageUrl = "https://www.youtube.com/watch?v=abc&utm_source=kakao";
+
+        WebClientBodyResponse webClientBodyResponse = WebClientBodyResponse.builder()
+                .title("title")
+                .type("video")
+                .build();
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl))
+                .thenReturn(webClientBodyResponse);
+
+        //when
+        crawlingService.crawl(pageUrl);
+        WebClientBodyResponse cachedResponse = crawlingService.crawl(trackedPageUrl);
+
+        //then
+        assertThat(cachedResponse.getTitle()).isEqualTo("title");
+        verify(webClientService, times(1)).crawlingItem("test", pageUrl);
+    }
+
+    @Test
+    void should_crawling_server_is_called_again_When_previous_crawling_failed() {
+        // 크롤링에 실패한(null) 결과는 캐싱되지 않아서, 다시 요청하면 크롤링 서버가 다시 호출되는지 확인
+        //given
+        String pageUrl = "https://www.naver.com";
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl)).thenReturn(null);
+
+        //when
+        crawlingService.crawl(pageUrl);
+        crawlingService.crawl(pageUrl);
+
+        //then
+        verify(webClientService, times(2)).crawlingItem("test", pageUrl);
+    }
+
+    @Test
+    void should_crawling_server_is_called_once_When_same_page_is_crawled_concurrently() throws Exception {
+        // 같은 페이지를 동시에 여러 번 크롤링할 때, 크롤링 서버는 한 번만 호출되고 모두 같은 결과를 받는지 확인
+        //given
+        String pageUrl = "https://www.youtube.com/watch?v=concurrent";
+        int threadCount = 8;
+
+        WebClientBodyResponse webClientBodyResponse = WebClientBodyResponse.builder()
+                .title("title")
+                .type("video")
+                .build();
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return webClientBodyResponse;
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<WebClientBodyResponse>> results = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                return crawlingService.crawl(pageUrl);
+            }));
+        }
+        startLatch.countDown();
+
+        //then
+        for (Future<WebClientBodyResponse> result : results) {
+            assertThat(result.get().getTitle()).isEqualTo("title");
+        }
+        verify(webClientService, times(1)).crawlingItem("test", pageUrl);
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,36 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class ExpireAfterCreateTest {
+
+    @Test
+    void should_entry_expires_from_its_creation_When_it_is_updated_and_read_in_between() {
+        // 만든 뒤에 고치거나 읽어도 만료 시각이 늘어나지 않고, 만든 지 duration 이 지나면 만료되는지 확인
+        //given
+        AtomicLong nanos = new AtomicLong();
+        Cache<Long, String> cache = Caffeine.newBuilder()
+                .expireAfter(new ExpireAfterCreate<Long, String>(Duration.ofMinutes(5)))
+                .executor(Runnable::run)
+                .ticker(nanos::get)
+                .build();
+        cache.put(1L, "built");
+
+        //when
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(4));
+        cache.asMap().computeIfPresent(1L, (key, value) -> value + " and reindexed");
+        String beforeExpiry = cache.getIfPresent(1L);
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        //then
+        assertThat(beforeExpiry).isEqualTo("built and reindexed");
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+}
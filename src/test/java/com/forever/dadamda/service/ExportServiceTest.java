@@ -0,0 +1,129 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    String email = "1234@naver.com";
+
+    @Test
+    void should_each_scrap_is_exported_as_one_line_with_its_memos_When_exporting_library()
+            throws Exception {
+        // 삭제되지 않은 스크랩이 한 줄에 하나씩, 삭제되지 않은 메모와 함께 스크랩 id 순으로 내보내지는지 확인
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.export(email, out);
+
+        //then
+        List<JsonNode> lines = readLines(out);
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines).allMatch(line -> line.get("type").asText().equals("scrap"));
+        assertThat(lines.get(0).get("data").get("scrapId").asLong()).isEqualTo(1L);
+        assertThat(lines.get(0).get("data").get("memoList")).hasSize(2);
+        assertThat(lines.get(1).get("data").get("memoList")).hasSize(1);
+        assertThat(lines.get(2).get("data").get("memoList")).isEmpty();
+        assertThat(lines.get(3).get("data").get("scrapId").asLong()).isEqualTo(4L);
+        assertThat(lines.get(3).get("data").get("memoList").get(0).get("memoText").asText())
+                .isEqualTo("Hello 4");
+    }
+
+    @Test
+    void should_raw_values_are_exported_When_exporting_video_scrap() throws Exception {
+        // 화면용 문자열(조회수 10회 등)이 아니라 조회수, 재생 시간, 생성일이 원래 값 그대로 내보내지는지 확인
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.export(email, out);
+
+        //then
+        JsonNode video = readLines(out).get(1).get("data");
+        assertThat(video.get("scrapId").asLong()).isEqualTo(2L);
+        assertThat(video.get("dtype").asText()).isEqualTo("video");
+        assertThat(video.get("watchedCnt").asLong()).isEqualTo(10L);
+        assertThat(video.get("playTime").asLong()).isEqualTo(100L);
+        assertThat(video.get("createdDate").asLong()).isEqualTo(
+                TimeService.fromLocalDateTime(LocalDateTime.of(2023, 1, 1, 11, 11, 1)));
+    }
+
+    @Test
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    @Sql(scripts = "/place-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    void should_place_fields_are_exported_When_exporting_place_scrap() throws Exception {
+        // 장소 스크랩은 위도, 경도 등 장소 필드와 함께 내보내지는지 확인
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.export(email, out);
+
+        //then
+        List<JsonNode> lines = readLines(out);
+
+        assertThat(lines).hasSize(2);
+        JsonNode place = lines.get(1).get("data");
+        assertThat(place.get("dtype").asText()).isEqualTo("place");
+        assertThat(place.get("title").asText()).isEqualTo("인천 빌딩");
+        assertThat(place.get("latitude").asDouble()).isCloseTo(38.496490, within(1e-9));
+        assertThat(place.get("longitude").asDouble()).isCloseTo(126.296959, within(1e-9));
+        assertThat(place.get("memoList")).hasSize(1);
+    }
+
+    @Test
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    @Sql(scripts = "/board-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    void should_each_board_is_exported_as_one_line_When_exporting_library() throws Exception {
+        // 삭제되지 않은 내 보드만 한 줄에 하나씩 보드 id 순으로 내보내지는지 확인
+        //given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.export(email, out);
+
+        //then
+        List<JsonNode> lines = readLines(out);
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines).allMatch(line -> line.get("type").asText().equals("board"));
+        assertThat(lines.get(0).get("data").get("boardId").asLong()).isEqualTo(1L);
+        assertThat(lines.get(0).get("data").get("title").asText()).isEqualTo("board1");
+        assertThat(lines.get(1).get("data").get("contents").asText()).isEqualTo("test contents");
+        assertThat(lines.get(3).get("data").get("boardId").asLong()).isEqualTo(4L);
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream out) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,35 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// @SpringBootTest 는 기본으로 JMX 를 끄므로, 운영과 같이 켜고 확인한다.
+@SpringBootTest(properties = "spring.jmx.enabled=true")
+@ActiveProfiles("test")
+public class PopularUsersLeaderboardEndpointTest {
+
+    @Test
+    void should_popular_users_snapshots_are_refreshed_When_refreshing_through_jmx() throws Exception {
+        // 운영자용 popularusers 엔드포인트가 JMX 에 노출되어 순위표를 다시 계산할 수 있는지 확인
+        //given
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        Set<ObjectName> endpointNames = mBeanServer.queryNames(new ObjectName(
+                "org.springframework.boot:type=Endpoint,name=Popularusers,*"), null);
+
+        //when
+        Object snapshots = mBeanServer.invoke(endpointNames.iterator().next(), "refresh",
+                new Object[0], new String[0]);
+
+        //then
+        assertThat(endpointNames.size()).isEqualTo(1);
+        assertThat(snapshots).isInstanceOf(List.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+public class SchedulerLockServiceTest {
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    String lockName = "test-lock";
+
+    @Test
+    void should_lock_is_not_acquired_again_When_it_is_already_held() {
+        // 이미 잡혀 있는 잠금은 다시 얻을 수 없는지 확인
+        //given
+        schedulerLockService.tryLock(lockName, Duration.ofMinutes(10));
+
+        //when
+        boolean locked = schedulerLockService.tryLock(lockName, Duration.ofMinutes(10));
+
+        //then
+        assertThat(locked).isFalse();
+    }
+
+    @Test
+    void should_lock_is_acquired_again_When_it_is_unlocked() {
+        // 잠금을 풀면 다시 얻을 수 있는지 확인
+        //given
+        schedulerLockService.tryLock(lockName, Duration.ofMinutes(10));
+        schedulerLockService.unlock(lockName, Duration.ZERO);
+
+        //when
+        boolean locked = schedulerLockService.tryLock(lockName, Duration.ofMinutes(10));
+
+        //then
+        assertThat(locked).isTrue();
+    }
+
+    @Test
+    void should_lock_is_not_acquired_When_it_is_kept_locked_after_unlocking() {
+        // 잠금을 풀 때 keepLockedFor 를 주면, 그 시간 동안은 다시 얻을 수 없는지 확인
+        //given
+        schedulerLockService.tryLock(lockName, Duration.ofMinutes(10));
+        schedulerLockService.unlock(lockName, Duration.ofMinutes(10));
+
+        //when
+        boolean locked = schedulerLockService.tryLock(lockName, Duration.ofMinutes(10));
+
+        //then
+        assertThat(locked).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SoftDeletePurgerTest {
+
+    @Autowired
+    private SoftDeletePurger softDeletePurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    void should_only_rows_deleted_before_the_given_date_are_purged_When_purging_scraps_and_memos() {
+        // 삭제된 스크랩과 메모를 정리할 때, 기준일 이전에 삭제된 행만 지워지는지 확인
+        //given
+        LocalDateTime deletedBefore = LocalDateTime.of(2023, 1, 6, 0, 0);
+
+        //when
+        Map<String, Long> purgedRows = softDeletePurger.purge(deletedBefore);
+
+        //then
+        assertThat(purgedRows.get("scrap")).isEqualTo(1L);
+        assertThat(purgedRows.get("memo")).isEqualTo(1L);
+        assertThat(count("SELECT COUNT(*) FROM scrap")).isEqualTo(4L);
+        assertThat(count("SELECT COUNT(*) FROM memo")).isEqualTo(6L);
+        assertThat(count("SELECT COUNT(*) FROM memo WHERE deleted_date IS NOT NULL")).isEqualTo(2L);
+    }
+
+    @Test
+    @Sql(scripts = "/board-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    void should_hearts_and_trend_rank_of_the_board_are_purged_together_When_purging_boards() {
+        // 삭제된 보드를 정리할 때, 그 보드의 하트와 trend_rank 행도 함께 지워지는지 확인
+        //given
+        jdbcTemplate.update("INSERT INTO heart (heart_id, user_id, board_id, created_date) "
+                + "VALUES (1, 2, 5, '2023-01-02 11:11:01'), (2, 2, 1, '2023-01-02 11:11:01')");
+        jdbcTemplate.update("INSERT INTO trend_rank "
+                + "(board_id, tag, board_created_date, heart_cnt, share_cnt, view_cnt) "
+                + "VALUES (5, 0, '2023-01-01 11:11:01', 6, 12, 11)");
+
+        //when
+        Map<String, Long> purgedRows = softDeletePurger.purge(LocalDateTime.now());
+
+        //then
+        assertThat(purgedRows.get("board")).isEqualTo(3L);
+        assertThat(purgedRows.get("heart")).isEqualTo(1L);
+        assertThat(purgedRows.get("trend_rank")).isEqualTo(1L);
+        assertThat(count("SELECT COUNT(*) FROM board WHERE deleted_date IS NOT NULL")).isEqualTo(0L);
+        assertThat(count("SELECT COUNT(*) FROM heart WHERE board_id = 1")).isEqualTo(1L);
+    }
+
+    @Test
+    @Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    void should_all_scraps_and_memos_of_the_user_are_purged_When_purging_withdrawn_users() {
+        // 탈퇴한 사용자를 정리할 때, 그 사용자의 스크랩과 메모가 모두 지워지는지 확인
+        //given
+        jdbcTemplate.update("UPDATE users SET deleted_date = '2023-02-01 00:00:00' WHERE user_id = 1");
+
+        //when
+        Map<String, Long> purgedRows = softDeletePurger.purge(LocalDateTime.now());
+
+        //then
+        assertThat(purgedRows.get("users")).isEqualTo(1L);
+        assertThat(purgedRows.get("scrap")).isEqualTo(5L);
+        assertThat(purgedRows.get("memo")).isEqualTo(7L);
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(0L);
+    }
+
+    @Test
+    @Sql(scripts = "/board-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    void should_heart_cnt_of_other_users_boards_decreases_When_purging_users_who_hearted_them() {
+        // 탈퇴한 사용자를 정리할 때, 그 사용자가 다른 사용자의 보드에 누른(취소하지 않은) 하트만큼
+        // 보드의 하트 수가 줄어드는지 확인
+        //given
+        jdbcTemplate.update("UPDATE users SET deleted_date = '2023-02-01 00:00:00' WHERE user_id = 2");
+        jdbcTemplate.update("INSERT INTO heart (heart_id, user_id, board_id, created_date, deleted_date) "
+                + "VALUES (1, 2, 1, '2023-01-02 11:11:01', NULL), "
+                + "(2, 2, 2, '2023-01-02 11:11:01', '2023-01-03 11:11:01'), "
+                + "(3, 3, 1, '2023-01-02 11:11:01', NULL)");
+        long board1HeartCnt = count("SELECT heart_cnt FROM board WHERE board_id = 1");
+        long board2HeartCnt = count("SELECT heart_cnt FROM board WHERE board_id = 2");
+
+        //when
+        softDeletePurger.purge(LocalDateTime.now());
+
+        //then
+        assertThat(count("SELECT heart_cnt FROM board WHERE board_id = 1"))
+                .isEqualTo(board1HeartCnt - 1);
+        assertThat(count("SELECT heart_cnt FROM board WHERE board_id = 2"))
+                .isEqualTo(board2HeartCnt);
+        assertThat(count("SELECT COUNT(*) FROM heart WHERE board_id = 1")).isEqualTo(1L);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
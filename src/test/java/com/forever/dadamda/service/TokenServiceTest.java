@@ -0,0 +1,75 @@
+package com.forever.dadamda.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.forever.dadamda.dto.user.AuthUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TokenServiceTest {
+
+    @Autowired
+    private TokenService tokenService;
+
+    String existentEmail = "1234@naver.com";
+    Long existentUserId = 1L;
+    UUID existentUserUuid = UUID.fromString("30373832-6566-3438-2d61-3433392d3131");
+
+    @Test
+    void should_it_returns_the_same_claims_without_reparsing_When_the_same_token_is_parsed_again() {
+        // 같은 토큰을 다시 파싱할 때, 서명을 다시 검증하지 않고 캐시된 claims 를 반환하는지 확인
+        //given
+        String token = tokenService.generateToken(existentEmail, existentUserId, existentUserUuid,
+                "USER");
+
+        //when
+        Claims claims = tokenService.parseClaims(token);
+        Claims cachedClaims = tokenService.parseClaims(token);
+
+        //then
+        assertThat(claims.getSubject()).isEqualTo(existentEmail);
+        assertThat(cachedClaims).isSameAs(claims);
+    }
+
+    @Test
+    void should_the_principal_has_user_id_and_uuid_When_the_token_is_parsed() {
+        // 토큰을 파싱할 때, 인증 사용자에 사용자 id, uuid, email 이 담기는지 확인
+        //given
+        String token = tokenService.generateToken(existentEmail, existentUserId, existentUserUuid,
+                "USER");
+
+        //when
+        AuthUser authUser = tokenService.getAuthUser(tokenService.parseClaims(token));
+
+        //then
+        assertThat(authUser.getUserId()).isEqualTo(existentUserId);
+        assertThat(authUser.getUuid()).isEqualTo(existentUserUuid);
+        assertThat(authUser.getName()).isEqualTo(existentEmail);
+    }
+
+    @Test
+    void should_it_throws_JwtException_When_the_signature_of_the_token_is_tampered() {
+        // 서명이 변조된 토큰을 파싱할 때, JwtException 이 발생하는지 확인
+        //given
+        String token = tokenService.generateToken(existentEmail, existentUserId, existentUserUuid,
+                "USER");
+        tokenService.parseClaims(token);
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char tamperedChar = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tamperedToken = token.substring(0, signatureStart) + tamperedChar
+                + token.substring(signatureStart + 1);
+
+        //when
+        //then
+        assertThatThrownBy(() -> tokenService.parseClaims(tamperedToken))
+                .isInstanceOf(JwtException.class);
+    }
+}
@@ -2,17 +2,35 @@ package com.forever.dadamda.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import com.forever.dadamda.dto.CursorResponse;
+import com.forever.dadamda.dto.board.GetBoardSuggestionResponse;
 import com.forever.dadamda.dto.trend.GetPopularUsersResponse;
+import com.forever.dadamda.dto.trend.GetTrendBoardResponse;
 import com.forever.dadamda.entity.board.Board;
 import com.forever.dadamda.entity.heart.Heart;
 import com.forever.dadamda.repository.HeartRepository;
 import com.forever.dadamda.repository.board.BoardRepository;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
@@ -33,9 +51,33 @@ public class TrendServiceTest {
     @Autowired
     private BoardRepository boardRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoardViewCounter boardViewCounter;
+
+    @Autowired
+    private BoardViewCountShutdownFlusher boardViewCountShutdownFlusher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TrendRankService trendRankService;
+
+    @Autowired
+    private PopularUsersLeaderboard popularUsersLeaderboard;
+
     String existentEmail = "1234@naver.com";
     UUID board1UUID = UUID.fromString("30373832-6566-3438-2d61-3433392d3131");
 
+    @BeforeEach
+    void setUp() {
+        trendRankService.rebuildAll();
+        popularUsersLeaderboard.refreshAll();
+    }
+
     @Test
     @Transactional
     void should_the_number_of_hearts_on_the_board_increases_and_heart_is_added_When_adding_hearts_on_the_trending_board() {
@@ -89,6 +131,7 @@ public class TrendServiceTest {
         //given
         //when
         trendService.updateViewCnt(board1UUID);
+        boardViewCounter.flush();
 
         //then
         Board board = boardRepository.findByUuidAndDeletedDateIsNull(board1UUID).get();
@@ -96,6 +139,95 @@ public class TrendServiceTest {
         assertThat(board.getViewCnt()).isEqualTo(12);
     }
 
+    @Test
+    void should_pending_views_are_saved_When_server_shuts_down() {
+        // 서버가 종료될 때, 아직 반영되지 않은 조회수가 트랜잭션 안에서 반영되는지 확인한다.
+        //given
+        trendService.updateViewCnt(board1UUID);
+
+        //when
+        boardViewCountShutdownFlusher.stop();
+        boardViewCountShutdownFlusher.start();
+
+        //then
+        Board board = boardRepository.findByUuidAndDeletedDateIsNull(board1UUID).get();
+
+        assertThat(board.getViewCnt()).isEqualTo(12);
+    }
+
+    @Test
+    void should_no_views_are_lost_When_many_users_view_the_board_concurrently() throws InterruptedException {
+        // 여러 사용자가 동시에 보드를 조회할 때, 조회수가 유실되지 않고 모두 반영되는지 확인한다.
+        //given
+        int threadCount = 50;
+        int viewsPerThread = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        trendService.updateViewCnt(board1UUID);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+        boardViewCounter.flush();
+
+        //then
+        Board board = boardRepository.findByUuidAndDeletedDateIsNull(board1UUID).get();
+
+        assertThat(board.getViewCnt()).isEqualTo(11L + threadCount * viewsPerThread);
+    }
+
+    @Test
+    void should_no_views_are_lost_When_views_are_flushed_while_board_is_being_viewed()
+            throws Exception {
+        // 조회수를 반영(flush)하는 도중에 들어온 조회도 유실되지 않고 모두 반영되는지 확인한다.
+        // (조회가 잠깐 없는 주기가 생기도록 조회 사이에 쉬어 간다)
+        //given
+        int threadCount = 8;
+        int viewsPerThread = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        //when
+        Future<?> flusher = executorService.submit(() -> {
+            while (latch.getCount() > 0) {
+                boardViewCounter.flush();
+            }
+        });
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < viewsPerThread; j++) {
+                        trendService.updateViewCnt(board1UUID);
+                        Thread.sleep(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        flusher.get();
+        executorService.shutdown();
+        boardViewCounter.flush();
+
+        //then
+        Board board = boardRepository.findByUuidAndDeletedDateIsNull(board1UUID).get();
+
+        assertThat(board.getViewCnt()).isEqualTo(11L + threadCount * viewsPerThread);
+    }
+
     @Test
     void should_the_size_of_the_popular_user_list_is_1_When_getting_popular_users() {
         // 인기 유저를 조회할 때, 인기 유저 리스트의 사이즈를 확인한다.
@@ -111,4 +243,262 @@ public class TrendServiceTest {
         //then
         assertThat(getPopularUsersResponseList.size()).isEqualTo(1);
     }
+
+    @Test
+    void should_popular_users_are_served_from_snapshot_until_refreshed_When_getting_popular_users() {
+        // 같은 기간의 인기 유저를 다시 조회할 때, 쿼리 없이 스냅샷에서 반환하고, 새로고침한 뒤에야 변경이 반영되는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 2, 20, 23, 59, 59);
+        trendService.getPopularUsers(startDate, endDate, 10L);
+        jdbcTemplate.update("UPDATE board SET heart_cnt = 100 WHERE board_id = 1");
+        statistics.clear();
+
+        //when
+        List<GetPopularUsersResponse> cachedUsers = trendService.getPopularUsers(startDate,
+                endDate, 1L);
+        long cachedStatementCount = statistics.getPrepareStatementCount();
+        popularUsersLeaderboard.refreshAll();
+        List<GetPopularUsersResponse> refreshedUsers = trendService.getPopularUsers(startDate,
+                endDate, 10L);
+
+        //then
+        assertThat(cachedStatementCount).isEqualTo(0L);
+        assertThat(cachedUsers.size()).isEqualTo(1);
+        assertThat(cachedUsers.get(0).getNickname()).isEqualTo("귀여운해달2");
+        assertThat(refreshedUsers.get(0).getNickname()).isEqualTo("귀여운해달1");
+    }
+
+    @Test
+    void should_one_snapshot_is_used_When_popular_users_are_requested_with_seconds_apart_windows() {
+        // 초 단위로 조금씩 다른 기간을 요청해도 같은 시간대면 같은 스냅샷을 쓰고 쿼리가 다시 실행되지 않는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 10, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 2, 20, 23, 10, 0);
+        List<GetPopularUsersResponse> firstUsers = trendService.getPopularUsers(startDate,
+                endDate, 10L);
+        statistics.clear();
+
+        //when
+        List<GetPopularUsersResponse> rollingUsers = trendService.getPopularUsers(
+                startDate.plusSeconds(30), endDate.plusSeconds(30), 10L);
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(0L);
+        assertThat(rollingUsers).isEqualTo(firstUsers);
+    }
+
+    @Test
+    void should_all_trend_boards_are_returned_once_When_scrolling_trend_boards_with_cursor() {
+        // 커서로 트렌딩 보드를 끝까지 조회할 때, 오프셋 조회와 같은 보드들이 중복 없이 인기순으로 조회되는지 확인
+        //given
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 12, 31, 0, 0);
+
+        List<UUID> expectedUUIDs = new ArrayList<>();
+        trendService.getTrendBoardList(startDate, endDate, PageRequest.of(0, 100), null)
+                .forEach(board -> expectedUUIDs.add(board.getUuid()));
+
+        //when
+        List<GetTrendBoardResponse> scrolledBoards = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<GetTrendBoardResponse> page = trendService.getTrendBoardListByCursor(
+                    startDate, endDate, null, cursor, 1);
+            scrolledBoards.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        //then
+        assertThat(scrolledBoards.size()).isEqualTo(expectedUUIDs.size());
+        for (int i = 1; i < scrolledBoards.size(); i++) {
+            assertThat(scrolledBoards.get(i - 1).getHeartCnt())
+                    .isGreaterThanOrEqualTo(scrolledBoards.get(i).getHeartCnt());
+        }
+        scrolledBoards.forEach(board -> assertThat(expectedUUIDs.contains(board.getUuid())).isTrue());
+        assertThat(scrolledBoards.stream().map(GetTrendBoardResponse::getUuid).distinct().count())
+                .isEqualTo((long) expectedUUIDs.size());
+    }
+
+    @Test
+    void should_trend_board_order_is_updated_When_heart_is_added_and_changed_boards_are_refreshed() {
+        // 하트를 누른 뒤 변경된 보드를 반영하면, 트렌딩 보드 순서에 바뀐 하트 수가 반영되는지 확인
+        //given
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 1, 31, 23, 59);
+
+        //when
+        trendService.updateHearts(existentEmail, board1UUID);
+        trendRankService.refreshChangedBoards();
+
+        //then
+        Slice<GetTrendBoardResponse> trendBoards = trendService.getTrendBoardList(startDate,
+                endDate, PageRequest.of(0, 10), null);
+
+        assertThat(trendBoards.getContent().get(0).getUuid()).isEqualTo(board1UUID);
+        assertThat(trendBoards.getContent().get(0).getHeartCnt()).isEqualTo(11L);
+    }
+
+    @Test
+    void should_authors_are_loaded_in_the_same_query_When_getting_trend_boards() {
+        // 트렌딩 보드를 조회할 때, 작성자 정보를 보드마다 따로 조회하지 않고 한 번의 쿼리로 가져오는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 12, 31, 0, 0);
+        statistics.clear();
+
+        //when
+        Slice<GetTrendBoardResponse> trendBoards = trendService.getTrendBoardList(startDate,
+                endDate, PageRequest.of(0, 10), null);
+
+        //then
+        assertThat(trendBoards.getContent().stream().map(GetTrendBoardResponse::getNickname)
+                .distinct().count()).isGreaterThan(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void should_authors_are_loaded_in_the_same_query_When_searching_trend_boards() {
+        // 트렌딩 보드를 검색할 때, 작성자 정보를 보드마다 따로 조회하지 않는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 12, 31, 0, 0);
+        statistics.clear();
+
+        //when
+        Slice<GetTrendBoardResponse> trendBoards = trendService.searchTrendBoards(startDate,
+                endDate, "board", PageRequest.of(0, 10));
+
+        //then
+        assertThat(trendBoards.getNumberOfElements()).isGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void should_author_is_loaded_in_the_same_query_When_getting_my_trend_boards() {
+        // 트렌딩 내 보드를 조회할 때, (회원 조회 + 목록 조회) 외에 작성자 조회 쿼리가 실행되지 않는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Slice<GetTrendBoardResponse> trendBoards = trendService.getMyTrendBoardList(
+                PageRequest.of(0, 10), null, existentEmail);
+
+        //then
+        assertThat(trendBoards.getNumberOfElements()).isGreaterThan(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void should_authors_are_fetch_joined_When_getting_trend_boards_with_cursor() {
+        // 커서로 트렌딩 보드를 조회할 때, 작성자를 fetch join 으로 함께 가져오는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2023, 12, 31, 0, 0);
+        statistics.clear();
+
+        //when
+        CursorResponse<GetTrendBoardResponse> trendBoards = trendService.getTrendBoardListByCursor(
+                startDate, endDate, null, null, 10);
+
+        //then
+        assertThat(trendBoards.getContent().stream().map(GetTrendBoardResponse::getNickname)
+                .distinct().count()).isGreaterThan(1L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void should_every_heart_is_counted_once_When_many_users_add_hearts_to_one_board_concurrently()
+            throws InterruptedException {
+        // 여러 사용자가 동시에 같은 보드에 하트를 누를 때, 하트 개수가 유실 없이 증가하고 하트가 중복 생성되지 않는지 확인한다.
+        //given
+        int userCount = 50;
+        for (int i = 0; i < userCount; i++) {
+            UUID userUUID = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO users (user_id, name, provider, role, email, nickname, uuid) "
+                            + "VALUES (?, ?, 0, 'USER', ?, ?, ?)",
+                    100 + i, "heart" + i, "heart" + i + "@naver.com", "하트" + i,
+                    ByteBuffer.allocate(16).putLong(userUUID.getMostSignificantBits())
+                            .putLong(userUUID.getLeastSignificantBits()).array());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(userCount);
+
+        //when
+        for (int i = 0; i < userCount; i++) {
+            String email = "heart" + i + "@naver.com";
+            executorService.submit(() -> {
+                try {
+                    trendService.updateHearts(email, board1UUID);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        Board board = boardRepository.findByUuidAndDeletedDateIsNullAndIsPublicIsTrue(board1UUID)
+                .get();
+
+        assertThat(board.getHeartCnt()).isEqualTo(10L + userCount);
+        assertThat(heartRepository.count()).isEqualTo((long) userCount);
+    }
+
+    @Test
+    void should_heart_count_matches_heart_state_When_one_user_toggles_heart_concurrently()
+            throws InterruptedException {
+        // 한 사용자가 같은 보드의 하트를 동시에 여러 번 누를 때, 하트 개수와 하트 상태가 어긋나지 않는지 확인한다.
+        //given
+        int requestCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger failedCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    trendService.updateHearts(existentEmail, board1UUID);
+                } catch (Exception e) {
+                    failedCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        Board board = boardRepository.findByUuidAndDeletedDateIsNullAndIsPublicIsTrue(board1UUID)
+                .get();
+        List<Heart> heartList = heartRepository.findAll();
+        long activeHeartCount = heartList.stream().filter(heart -> heart.getDeletedDate() == null)
+                .count();
+
+        assertThat(heartList.size()).isEqualTo(1);
+        assertThat(board.getHeartCnt()).isEqualTo(10L + activeHeartCount);
+    }
+
+    @Test
+    void should_public_boards_are_suggested_in_heart_count_order_When_typing_the_beginning_of_the_title() {
+        // 트렌딩 보드 제목 앞부분을 입력할 때, 삭제되지 않은 공개 보드가 하트 많은 순으로 size개 조회되는지 확인
+        //given
+        //when
+        List<GetBoardSuggestionResponse> suggestions = trendService.suggestTrendBoards("board1", 3);
+
+        //then
+        assertThat(suggestions.stream().map(GetBoardSuggestionResponse::getTitle)
+                .collect(Collectors.toList()))
+                .isEqualTo(List.of("board13", "board11", "board1"));
+    }
 }
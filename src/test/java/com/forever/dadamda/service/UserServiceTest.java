@@ -1,16 +1,30 @@
 package com.forever.dadamda.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import com.forever.dadamda.dto.ErrorCode;
+import com.forever.dadamda.dto.user.AuthUser;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.UserRepository;
 import com.forever.dadamda.service.user.UserService;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -24,6 +38,9 @@ public class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     String existentEmail = "1234@naver.com";
 
     @Test
@@ -40,4 +57,79 @@ public class UserServiceTest {
         assertThat(user.getNickname()).isEqualTo(updateNickname);
         assertThat(user.getModifiedDate()).isAfter(user.getCreatedDate());
     }
+
+    @Test
+    void should_the_user_is_queried_once_per_request_When_validating_the_same_user_several_times() {
+        // 한 요청 안에서 같은 사용자를 여러 번 검증할 때, 사용자 조회 쿼리는 한 번만 실행되는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        statistics.clear();
+
+        try {
+            //when
+            User user = userService.validateUser(existentEmail);
+            User sameUser = userService.validateUser(existentEmail);
+
+            //then
+            assertThat(sameUser.getId()).isEqualTo(user.getId());
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void should_only_the_withdrawal_is_checked_When_the_authenticated_principal_has_the_user_id() {
+        // 인증된 사용자에 사용자 id 가 있을 때, 사용자를 조회하지 않고 기본키로 탈퇴 여부만 한 번 확인한 뒤
+        // 참조를 반환하는지 확인 (같은 요청 안에서는 다시 확인하지 않는다)
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Long userId = userRepository.findByEmailAndDeletedDateIsNull(existentEmail).get().getId();
+        authenticate(userId);
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        statistics.clear();
+
+        try {
+            //when
+            User user = userService.validateUser(existentEmail);
+            User sameUser = userService.validateUser(existentEmail);
+
+            //then
+            assertThat(user.getId()).isEqualTo(userId);
+            assertThat(sameUser.getId()).isEqualTo(userId);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void should_NotFoundException_occurs_When_the_token_of_a_withdrawn_user_is_used() {
+        // 탈퇴한 사용자의 토큰(사용자 id)으로 요청하면, 토큰이 만료되기 전이라도 NOT_EXISTS_MEMBER 예외가 발생한다.
+        //given
+        Long userId = userRepository.findByEmailAndDeletedDateIsNull(existentEmail).get().getId();
+        authenticate(userId);
+
+        try {
+            userService.deleteUser(existentEmail);
+
+            //when
+            //then
+            assertThatThrownBy(() -> userService.validateUser(existentEmail))
+                    .isInstanceOf(NotFoundException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_EXISTS_MEMBER);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthUser(userId, null, existentEmail), "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
 }
@@ -80,7 +80,10 @@ public class PlaceServiceTest {
         Place place = placeService.savePlace(webClientBodyResponse, user, existingPageUrl);
 
         //then
-        assertThat(place.getTitle()).isEqualTo(placeRepository.findById(1L).get().getTitle());
+        // id 는 hibernate_sequence 에서 묶음으로 할당하므로 1 부터 시작하지 않을 수 있다.
+        assertThat(placeRepository.findAll()).hasSize(1);
+        assertThat(place.getTitle())
+                .isEqualTo(placeRepository.findById(place.getId()).get().getTitle());
     }
 
     @Test
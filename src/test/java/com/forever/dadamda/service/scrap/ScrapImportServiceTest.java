@@ -0,0 +1,193 @@
+package com.forever.dadamda.service.scrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
+import com.forever.dadamda.entity.scrap.Other;
+import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.repository.UserRepository;
+import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.CrawlingService;
+import com.forever.dadamda.service.WebClientService;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class ScrapImportServiceTest {
+
+    @Autowired
+    private ScrapImportService scrapImportService;
+
+    @Autowired
+    private ScrapRepository scrapRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CrawlingService crawlingService;
+
+    @MockBean
+    private WebClientService webClientService;
+
+    String email = "1234@naver.com";
+
+    @BeforeEach
+    void setUp() {
+        crawlingService.evictAll();
+    }
+
+    @Test
+    void should_urls_are_extracted_When_parsing_netscape_bookmark_file() {
+        // 브라우저에서 내보낸 북마크 HTML에서 URL만 추출되는지 확인
+        //given
+        String html = "<!DOCTYPE NETSCAPE-Bookmark-file-1>\n"
+                + "<DL><p>\n"
+                + "    <DT><H3 ADD_DATE=\"1690000000\">폴더</H3>\n"
+                + "    <DL><p>\n"
+                + "        <DT><A HREF=\"https://www.naver.com\" ADD_DATE=\"1690000000\">네이버</A>\n"
+                + "        <DT><a add_date=\"1690000000\" href=\"https://www.google.com/search?q=a&amp;b=c\">구글</a>\n"
+                + "    </DL><p>\n"
+                + "</DL><p>";
+
+        //when
+        List<String> pageUrls = ScrapImportService.parseBookmarkUrls(html);
+
+        //then
+        assertThat(pageUrls).containsExactly("https://www.naver.com",
+                "https://www.google.com/search?q=a&b=c");
+    }
+
+    @Test
+    void should_only_new_valid_urls_are_saved_When_importing_scraps() throws InterruptedException {
+        // 이미 저장된 URL과 잘못된 URL은 건너뛰고, 새 URL만 저장되는지 확인
+        //given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+
+        BDDMockito.when(webClientService.crawlingItem(ArgumentMatchers.anyString(),
+                        ArgumentMatchers.anyString()))
+                .thenReturn(WebClientBodyResponse.builder().type("other").title("title").build());
+
+        List<String> pageUrls = Arrays.asList(
+                "https://www.coupang.com",
+                "https://www.daum.net",
+                "https://www.daum.net",
+                "https://www.kakao.com",
+                "not a url");
+
+        //when
+        UUID jobId = scrapImportService.startImport(email, pageUrls);
+
+        ScrapImportJob job = scrapImportService.getImportJob(email, jobId);
+        for (int i = 0; i < 100 && job.getStatus() != ScrapImportJob.Status.COMPLETED; i++) {
+            Thread.sleep(100);
+        }
+
+        //then
+        assertThat(job.getStatus()).isEqualTo(ScrapImportJob.Status.COMPLETED);
+        assertThat(job.getTotalCount()).isEqualTo(4);
+        assertThat(job.getImportedCount().get()).isEqualTo(2);
+        assertThat(job.getDuplicatedCount().get()).isEqualTo(1);
+        assertThat(job.getInvalidCount().get()).isEqualTo(1);
+        assertThat(scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(
+                "https://www.daum.net", user)).isPresent();
+    }
+
+    @Test
+    void should_failed_crawls_are_counted_as_failed_and_not_saved_When_importing_scraps()
+            throws InterruptedException {
+        // 크롤링에 실패한 URL(예외, 빈 결과)은 저장되지 않고 실패로 세어지는지 확인
+        //given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+        String emptyPageUrl = "https://www.empty.com";
+        String errorPageUrl = "https://www.error.com";
+
+        BDDMockito.when(webClientService.crawlingItem(ArgumentMatchers.anyString(),
+                        ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> {
+                    String pageUrl = invocation.getArgument(1);
+                    if (pageUrl.equals(emptyPageUrl)) {
+                        return null;
+                    }
+                    if (pageUrl.equals(errorPageUrl)) {
+                        throw new IllegalStateException("crawling server error");
+                    }
+                    return WebClientBodyResponse.builder().type("other").title("title").build();
+                });
+
+        List<String> pageUrls = Arrays.asList(
+                "https://www.daum.net",
+                emptyPageUrl,
+                errorPageUrl);
+
+        //when
+        UUID jobId = scrapImportService.startImport(email, pageUrls);
+
+        ScrapImportJob job = scrapImportService.getImportJob(email, jobId);
+        for (int i = 0; i < 100 && job.getStatus() != ScrapImportJob.Status.COMPLETED; i++) {
+            Thread.sleep(100);
+        }
+
+        //then
+        assertThat(job.getStatus()).isEqualTo(ScrapImportJob.Status.COMPLETED);
+        assertThat(job.getImportedCount().get()).isEqualTo(1);
+        assertThat(job.getFailedCount().get()).isEqualTo(2);
+        assertThat(job.getDuplicatedCount().get()).isEqualTo(0);
+        assertThat(scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(
+                emptyPageUrl, user)).isEmpty();
+        assertThat(scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(
+                errorPageUrl, user)).isEmpty();
+    }
+
+    @Test
+    void should_scraps_without_type_are_saved_as_other_When_importing_scraps()
+            throws InterruptedException {
+        // 크롤링 결과에 타입이 없는(null) URL도 묶음 전체가 실패하지 않고 기타로 저장되는지 확인
+        //given
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+        String untypedPageUrl = "https://www.untyped.com";
+
+        BDDMockito.when(webClientService.crawlingItem(ArgumentMatchers.anyString(),
+                        ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> {
+                    String pageUrl = invocation.getArgument(1);
+                    if (pageUrl.equals(untypedPageUrl)) {
+                        return WebClientBodyResponse.builder().title("title").build();
+                    }
+                    return WebClientBodyResponse.builder().type("article").title("title").build();
+                });
+
+        List<String> pageUrls = Arrays.asList(
+                "https://www.daum.net",
+                untypedPageUrl);
+
+        //when
+        UUID jobId = scrapImportService.startImport(email, pageUrls);
+
+        ScrapImportJob job = scrapImportService.getImportJob(email, jobId);
+        for (int i = 0; i < 100 && job.getStatus() != ScrapImportJob.Status.COMPLETED; i++) {
+            Thread.sleep(100);
+        }
+
+        //then
+        assertThat(job.getStatus()).isEqualTo(ScrapImportJob.Status.COMPLETED);
+        assertThat(job.getImportedCount().get()).isEqualTo(2);
+        assertThat(job.getFailedCount().get()).isEqualTo(0);
+        assertThat(scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(
+                untypedPageUrl, user).get()).isInstanceOf(Other.class);
+    }
+}
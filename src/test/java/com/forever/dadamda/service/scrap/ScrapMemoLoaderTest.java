@@ -0,0 +1,162 @@
+package com.forever.dadamda.service.scrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+
+// 목록 조회 API가 스크랩 개수와 상관없이 (사용자 조회 + 목록 조회 + 메모 IN 조회) 3번의 쿼리만 실행하는지 확인
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+@Sql(scripts = "/setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+public class ScrapMemoLoaderTest {
+
+    private static final long EXPECTED_STATEMENT_COUNT = 3;
+
+    @Autowired
+    private ScrapService scrapService;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OtherService otherService;
+
+    @Autowired
+    private PlaceService placeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    String email = "1234@naver.com";
+    PageRequest pageRequest = PageRequest.of(0, 30);
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_getting_scraps() {
+        Slice<?> slice = countStatements(() -> scrapService.getScraps(email, pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_searching_scraps() {
+        Slice<?> slice = countStatements(
+                () -> scrapService.searchScraps(email, "Today", pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_getting_videos() {
+        Slice<?> slice = countStatements(() -> videoService.getVideos(email, pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_searching_videos() {
+        Slice<?> slice = countStatements(
+                () -> videoService.searchVideos(email, "일기", pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_getting_articles() {
+        Slice<?> slice = countStatements(() -> articleService.getArticles(email, pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_searching_articles() {
+        Slice<?> slice = countStatements(
+                () -> articleService.searchArticles(email, "일기", pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_getting_products() {
+        Slice<?> slice = countStatements(() -> productService.getProducts(email, pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    void should_memos_are_loaded_with_one_query_When_searching_products() {
+        Slice<?> slice = countStatements(
+                () -> productService.searchProducts(email, "맥북", pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    @Sql(scripts = "/other-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    void should_memos_are_loaded_with_one_query_When_getting_others() {
+        Slice<?> slice = countStatements(() -> otherService.getOthers(email, pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    @Sql(scripts = "/other-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    void should_memos_are_loaded_with_one_query_When_searching_others() {
+        Slice<?> slice = countStatements(
+                () -> otherService.searchOthers(email, "Google", pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    @Test
+    @Sql(scripts = "/truncate.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
+    @Sql(scripts = "/place-setup.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+    void should_memos_are_loaded_with_one_query_When_getting_places() {
+        Slice<?> slice = countStatements(() -> placeService.getPlaces(email, pageRequest));
+
+        assertThat(slice.getNumberOfElements()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENT_COUNT);
+    }
+
+    private <T> T countStatements(Supplier<T> listQuery) {
+        statistics.clear();
+        return listQuery.get();
+    }
+}
@@ -0,0 +1,94 @@
+package com.forever.dadamda.service.scrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.forever.dadamda.service.scrap.ScrapSearchIndex.ScrapDocument;
+import com.forever.dadamda.service.scrap.ScrapSearchIndex.UserIndex;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+public class ScrapSearchIndexTest {
+
+    @Test
+    void should_decomposed_hangul_and_upper_case_are_tokenized_the_same_When_tokenizing() {
+        // 자모가 분리된 한글(NFD)과 대문자 영문도 같은 토큰으로 나뉘는지 확인
+        String decomposed = Normalizer.normalize("맥북 Pro", Normalizer.Form.NFD);
+
+        assertThat(HangulBigramTokenizer.tokenize(decomposed))
+                .isEqualTo(HangulBigramTokenizer.tokenize("맥북 pro"));
+    }
+
+    @Test
+    void should_keyword_is_not_searchable_When_it_has_a_one_letter_run() {
+        // 한 글자짜리 구간이 있으면 색인으로 찾을 수 없으므로 DB 검색으로 넘긴다.
+        assertThat(HangulBigramTokenizer.isSearchable("16인치")).isTrue();
+        assertThat(HangulBigramTokenizer.isSearchable("오늘의 일기")).isTrue();
+        assertThat(HangulBigramTokenizer.isSearchable("Hello 4")).isFalse();
+        assertThat(HangulBigramTokenizer.isSearchable("책")).isFalse();
+        assertThat(HangulBigramTokenizer.isSearchable(" ")).isFalse();
+    }
+
+    @Test
+    void should_title_matches_come_first_When_searching_title_and_memo() {
+        // 제목에 있는 스크랩이 메모에만 있는 스크랩보다 먼저, 점수가 같으면 최근에 만든 스크랩이 먼저 조회된다.
+        // (가져오기처럼 스크랩 id 순서와 생성일 순서가 다를 수 있다)
+        //given
+        UserIndex index = new UserIndex();
+        index.add(new ScrapDocument(1L, "Article", createdDate(3), "점심 메뉴", "오늘의 일기 메모"));
+        index.add(new ScrapDocument(2L, "Video", createdDate(2), "오늘의 일기 1", "Youtube"));
+        index.add(new ScrapDocument(3L, "Video", createdDate(1), "오늘의 일기 2", "Youtube"));
+        index.add(new ScrapDocument(4L, "Video", createdDate(4), "내일의 날씨", "Youtube"));
+        index.add(new ScrapDocument(5L, "Video", createdDate(1), "오늘의 일기 3", "Youtube"));
+
+        //when
+        //then
+        assertThat(index.search(HangulBigramTokenizer.tokenize("오늘의 일기"), null))
+                .containsExactly(2L, 5L, 3L, 1L);
+        assertThat(index.search(HangulBigramTokenizer.tokenize("오늘의 일기"), "Article"))
+                .containsExactly(1L);
+        assertThat(index.search(HangulBigramTokenizer.tokenize("맥북"), null)).isEmpty();
+    }
+
+    @Test
+    void should_only_the_new_text_is_searched_When_scrap_is_reindexed_or_removed() {
+        // 스크랩을 다시 색인하면 새 내용으로만, 지우면 더 이상 검색되지 않는지 확인
+        //given
+        UserIndex index = new UserIndex();
+        index.add(new ScrapDocument(1L, "Other", createdDate(1), "맥북 후기", ""));
+        index.add(new ScrapDocument(2L, "Other", createdDate(2), "맥북 가격", ""));
+
+        //when
+        index.add(new ScrapDocument(1L, "Product", createdDate(1), "아이패드 후기", ""));
+        index.remove(2L);
+
+        //then
+        assertThat(index.search(HangulBigramTokenizer.tokenize("맥북"), null)).isEmpty();
+        assertThat(index.search(HangulBigramTokenizer.tokenize("아이패드"), "Product"))
+                .containsExactly(1L);
+    }
+
+    @Test
+    void should_weight_grows_with_the_indexed_text_When_scraps_are_added() {
+        // 캐시 용량 제한에 쓰는 색인 크기가 색인한 내용만큼 커지는지 확인
+        //given
+        UserIndex index = new UserIndex();
+        int emptyWeight = index.weight();
+
+        //when
+        index.add(new ScrapDocument(1L, "Other", createdDate(1), "맥북 후기", ""));
+        int oneScrapWeight = index.weight();
+        for (long scrapId = 2; scrapId <= 100; scrapId++) {
+            index.add(new ScrapDocument(scrapId, "Other", createdDate(1),
+                    "맥북 후기 " + scrapId, "오늘의 일기 메모 " + scrapId));
+        }
+
+        //then
+        assertThat(oneScrapWeight).isGreaterThan(emptyWeight);
+        assertThat(index.weight()).isGreaterThan(oneScrapWeight * 10);
+    }
+
+    private LocalDateTime createdDate(int day) {
+        return LocalDateTime.of(2023, 1, day, 11, 11, 1);
+    }
+}
@@ -4,18 +4,41 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.forever.dadamda.dto.CursorResponse;
+import com.forever.dadamda.dto.memo.CreateHighlightRequest;
+import com.forever.dadamda.dto.scrap.CreateScrapResponse;
+import com.forever.dadamda.dto.scrap.GetScrapCountsResponse;
 import com.forever.dadamda.dto.scrap.GetScrapResponse;
 import com.forever.dadamda.dto.webClient.WebClientBodyResponse;
 import com.forever.dadamda.entity.scrap.Article;
 import com.forever.dadamda.entity.scrap.Other;
 import com.forever.dadamda.entity.scrap.Scrap;
+import com.forever.dadamda.entity.scrap.ScrapStatus;
 import com.forever.dadamda.entity.user.User;
+import com.forever.dadamda.exception.InvalidException;
 import com.forever.dadamda.exception.NotFoundException;
 import com.forever.dadamda.repository.MemoRepository;
 import com.forever.dadamda.repository.UserRepository;
 import com.forever.dadamda.repository.scrap.ScrapRepository;
+import com.forever.dadamda.service.CrawlingService;
+import com.forever.dadamda.service.MemoService;
 import com.forever.dadamda.service.WebClientService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.persistence.EntityManagerFactory;
 import net.minidev.json.parser.ParseException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +71,18 @@ public class ScrapServiceTest {
     @Autowired
     private MemoRepository memoRepository;
 
+    @Autowired
+    private CrawlingService crawlingService;
+
+    @Autowired
+    private MemoService memoService;
+
+    @Autowired
+    private ScrapCrawlingService scrapCrawlingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     String email = "1234@naver.com";
     Long existentScrapId = 1L;
     Long notExistentScrapId = 100L;
@@ -56,6 +91,12 @@ public class ScrapServiceTest {
 
     int scrapCountExpected = 2;
 
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 다른 크롤링 결과를 사용하므로, 이전 테스트의 캐시를 비운다.
+        crawlingService.evictAll();
+    }
+
     @Test
     void should_return_success_When_existent_member_deletes_one_scrap() {
         //given
@@ -168,5 +209,224 @@ public class ScrapServiceTest {
         Scrap scrap = scrapRepository.findByPageUrlAndUserAndDeletedDateIsNull(pageUrl, user).get();
         assertThat(scrap.getDescription().length()).isEqualTo(1000);
         assertThat(description.length()).isEqualTo(1001);
+        // 캐시에 담긴 크롤링 결과는 다른 요청도 함께 쓰므로 바뀌지 않아야 한다.
+        assertThat(crawlingService.crawl(pageUrl).getDescription().length()).isEqualTo(1001);
+    }
+
+    @Test
+    void should_pending_scrap_is_saved_and_its_id_is_returned_When_creating_scrap() {
+        // 스크랩을 추가할 때, 크롤링을 기다리지 않고 대기 상태의 스크랩이 저장되고 id가 반환되는지 확인
+        //given
+        String newPageUrl = "https://www.google.com";
+
+        //when
+        CreateScrapResponse createScrapResponse = scrapService.createScraps(email, newPageUrl);
+
+        //then
+        Scrap scrap = scrapRepository.findById(createScrapResponse.getScrapId()).get();
+        assertThat(scrap.getPageUrl()).isEqualTo(newPageUrl);
+        assertThat(createScrapResponse.getPageUrl()).isEqualTo(newPageUrl);
+    }
+
+    @Test
+    void should_pending_scrap_becomes_article_When_crawling_result_is_article() {
+        // 대기 상태의 스크랩에 article 크롤링 결과가 채워지면, Article 타입으로 바뀌고 완료 상태가 되는지 확인
+        //given
+        User user = userRepository.findById(1L).get();
+        Scrap pendingScrap = scrapRepository.save(Other.pending(user, pageUrl));
+
+        WebClientBodyResponse webClientBodyResponse = new WebClientBodyResponse().builder()
+                .title("title")
+                .type("article")
+                .build();
+
+        //when
+        scrapService.completeScrap(pendingScrap.getId(), webClientBodyResponse);
+
+        //then
+        Scrap scrap = scrapRepository.findById(pendingScrap.getId()).get();
+        assertThat(pendingScrap.getStatus()).isEqualTo(ScrapStatus.PENDING);
+        assertThat(scrap).isInstanceOf(Article.class);
+        assertThat(scrap.getTitle()).isEqualTo("title");
+        assertThat(scrap.getStatus()).isEqualTo(ScrapStatus.COMPLETED);
+    }
+
+    @Test
+    void should_pending_scrap_is_crawled_again_When_its_crawl_was_rejected() throws Exception {
+        // 크롤링 스레드 풀이 가득 차서 대기 상태로 남은 스크랩이 다시 크롤링되어 완료되는지 확인
+        //given
+        User user = userRepository.findById(1L).get();
+        Scrap pendingScrap = scrapRepository.save(Other.pending(user, pageUrl));
+
+        BDDMockito.when(webClientService.crawlingItem("test", pageUrl))
+                .thenReturn(WebClientBodyResponse.builder().title("title").type("article").build());
+
+        //when
+        scrapCrawlingService.retryPendingScraps(LocalDateTime.now().plusSeconds(1));
+
+        //then
+        Scrap scrap = scrapRepository.findById(pendingScrap.getId()).get();
+        for (int i = 0; i < 50 && scrap.getStatus() == ScrapStatus.PENDING; i++) {
+            Thread.sleep(100);
+            scrap = scrapRepository.findById(pendingScrap.getId()).get();
+        }
+        assertThat(scrap).isInstanceOf(Article.class);
+        assertThat(scrap.getStatus()).isEqualTo(ScrapStatus.COMPLETED);
+    }
+
+    @Test
+    void should_scraps_are_returned_in_created_date_order_without_duplicates_When_scrolling_with_cursor() {
+        // 커서로 스크랩을 끝까지 조회할 때, 최신순으로 중복 없이 모든 스크랩이 조회되는지 확인
+        //given
+        //when
+        CursorResponse<GetScrapResponse> firstPage = scrapService.getScrapsByCursor(email, null, 2);
+        CursorResponse<GetScrapResponse> secondPage = scrapService.getScrapsByCursor(email,
+                firstPage.getNextCursor(), 2);
+
+        //then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getContent().get(0).getScrapId()).isEqualTo(1L);
+        assertThat(firstPage.getContent().get(1).getScrapId()).isEqualTo(4L);
+
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getContent().get(0).getScrapId()).isEqualTo(3L);
+        assertThat(secondPage.getContent().get(1).getScrapId()).isEqualTo(2L);
+    }
+
+    @Test
+    void should_scraps_are_inserted_in_batches_When_saving_crawled_scraps() {
+        // 크롤링한 스크랩을 여러 개 저장할 때, 행마다 시퀀스 조회와 insert 를 하지 않고 묶어서 보내는지 확인
+        //given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User user = userRepository.findByEmailAndDeletedDateIsNull(email).get();
+        Map<String, WebClientBodyResponse> crawlingResponses = new LinkedHashMap<>();
+        for (int i = 0; i < 30; i++) {
+            crawlingResponses.put("https://www.example.com/batch/" + i, null);
+        }
+        statistics.clear();
+
+        //when
+        int savedCount = scrapService.saveCrawledScraps(user, crawlingResponses);
+
+        //then
+        assertThat(savedCount).isEqualTo(30);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10L);
+    }
+
+    @Test
+    void should_scrap_is_searched_When_keyword_exists_only_in_its_memo() {
+        // 제목, 설명에는 없고 메모에만 있는 키워드로 검색할 때, 해당 스크랩이 조회되는지 확인
+        // 삭제된 메모(Hello 5)의 내용으로는 검색되지 않는다.
+        //given
+        //when
+        Slice<GetScrapResponse> searchedByMemo = scrapService.searchScraps(email, "Hello 4",
+                PageRequest.of(0, 10));
+        Slice<GetScrapResponse> searchedByDeletedMemo = scrapService.searchScraps(email,
+                "Hello 5", PageRequest.of(0, 10));
+
+        //then
+        assertThat(searchedByMemo.getNumberOfElements()).isEqualTo(1);
+        assertThat(searchedByMemo.getContent().get(0).getScrapId()).isEqualTo(4L);
+        assertThat(searchedByDeletedMemo.hasContent()).isFalse();
+    }
+
+    @Test
+    void should_counts_by_type_are_returned_except_deleted_scraps_When_getting_scrap_counts() {
+        // 삭제되지 않은 스크랩의 개수가 타입별로 한 번에 조회되는지 확인
+        //given
+        //when
+        GetScrapCountsResponse counts = scrapService.getScrapCounts(email);
+
+        //then
+        assertThat(counts.getTotal()).isEqualTo(4L);
+        assertThat(counts.getVideo()).isEqualTo(2L);
+        assertThat(counts.getArticle()).isEqualTo(1L);
+        assertThat(counts.getProduct()).isEqualTo(1L);
+        assertThat(counts.getPlace()).isEqualTo(0L);
+        assertThat(counts.getOther()).isEqualTo(0L);
+    }
+
+    @Test
+    void should_only_one_scrap_is_saved_When_same_page_is_highlighted_concurrently()
+            throws Exception {
+        // 같은 사용자가 같은 페이지에 동시에 하이라이트를 추가해도, 스크랩은 하나만 저장되고 메모는 모두 저장되는지 확인
+        //given
+        String newPageUrl = "https://www.google.com/highlight";
+        int threadCount = 8;
+
+        BDDMockito.when(webClientService.crawlingItem("test", newPageUrl))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(100);
+                    return WebClientBodyResponse.builder().title("title").type("article").build();
+                });
+
+        CreateHighlightRequest createHighlightRequest = CreateHighlightRequest.builder()
+                .pageUrl(newPageUrl)
+                .selectedText("highlight")
+                .build();
+
+        //when
+        List<Future<Object>> results = runConcurrently(threadCount,
+                () -> memoService.createHighlights(email, createHighlightRequest));
+
+        //then
+        for (Future<Object> result : results) {
+            result.get();
+        }
+        assertThat(countScraps(newPageUrl)).isEqualTo(1L);
+        assertThat(memoRepository.findAll().stream()
+                .filter(memo -> "highlight".equals(memo.getMemoText()))
+                .count()).isEqualTo((long) threadCount);
+    }
+
+    @Test
+    void should_only_one_scrap_is_saved_and_the_others_fail_When_same_page_is_scraped_concurrently()
+            throws Exception {
+        // 같은 사용자가 같은 페이지를 동시에 스크랩하면, 하나만 저장되고 나머지는 중복 스크랩 예외가 발생하는지 확인
+        //given
+        String newPageUrl = "https://www.google.com/concurrent";
+        int threadCount = 8;
+
+        //when
+        List<Future<Object>> results = runConcurrently(threadCount,
+                () -> scrapService.createScraps(email, newPageUrl));
+
+        //then
+        int failedCount = 0;
+        for (Future<Object> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(InvalidException.class);
+                failedCount++;
+            }
+        }
+        assertThat(countScraps(newPageUrl)).isEqualTo(1L);
+        assertThat(failedCount).isEqualTo(threadCount - 1);
+    }
+
+    private List<Future<Object>> runConcurrently(int threadCount, Callable<Object> task) {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.await();
+                return task.call();
+            }));
+        }
+        startLatch.countDown();
+        executorService.shutdown();
+
+        return results;
+    }
+
+    private long countScraps(String pageUrl) {
+        return scrapRepository.findAll().stream()
+                .filter(scrap -> scrap.getPageUrl().equals(pageUrl))
+                .count();
     }
 }
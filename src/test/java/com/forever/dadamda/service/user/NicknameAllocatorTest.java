@@ -0,0 +1,35 @@
+package com.forever.dadamda.service.user;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.forever.dadamda.service.RandomService;
+import org.junit.jupiter.api.Test;
+
+public class NicknameAllocatorTest {
+
+    @Test
+    void should_every_slot_is_converted_back_to_the_same_slot_When_converting_slot_to_nickname() {
+        // 모든 슬롯을 닉네임으로 바꾼 뒤 다시 슬롯으로 바꿀 때, 같은 슬롯이 되는지 확인
+        for (int slot = 0; slot < NicknameAllocator.CAPACITY; slot++) {
+            assertThat(NicknameAllocator.toSlot(NicknameAllocator.toNickname(slot))).isEqualTo(slot);
+        }
+    }
+
+    @Test
+    void should_the_generated_random_nickname_has_a_slot_When_converting_nickname_to_slot() {
+        // generateRandomNickname 으로 만든 닉네임은 항상 슬롯을 가지는지 확인
+        for (int i = 0; i < 1000; i++) {
+            assertThat(NicknameAllocator.toSlot(RandomService.generateRandomNickname()))
+                    .isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    void should_it_returns_minus_1_When_the_nickname_is_not_a_random_nickname_format() {
+        // 랜덤 닉네임 형식이 아닌 닉네임은 슬롯이 없는지 확인
+        assertThat(NicknameAllocator.toSlot("nickname1")).isEqualTo(-1);
+        assertThat(NicknameAllocator.toSlot("귀여운해달")).isEqualTo(-1);
+        assertThat(NicknameAllocator.toSlot("귀여운해달01")).isEqualTo(-1);
+        assertThat(NicknameAllocator.toSlot("귀여운해달1000")).isEqualTo(-1);
+    }
+}
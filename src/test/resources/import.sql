@@ -0,0 +1,2 @@
+-- 테스트 데이터는 id 를 직접 지정해 넣으므로, 시퀀스로 발급하는 id 와 겹치지 않게 한다.
+ALTER SEQUENCE hibernate_sequence RESTART WITH 1000;
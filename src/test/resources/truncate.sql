@@ -4,4 +4,6 @@ TRUNCATE TABLE users;
 TRUNCATE TABLE memo;
 TRUNCATE TABLE board;
 TRUNCATE TABLE heart;
+TRUNCATE TABLE trend_rank;
+TRUNCATE TABLE scheduler_lock;
 SET REFERENTIAL_INTEGRITY TRUE;